@@ -0,0 +1,113 @@
+package books.management.benchmark;
+
+import books.management.ManagementApplication;
+import books.management.domain.author.application.AuthorService;
+import books.management.domain.author.dao.AuthorRepository;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 저자 삭제 시 연관된 도서를 삭제하는 두 가지 방식을 비교합니다. - cascade: 저자 엔티티를 삭제하여 CascadeType.REMOVE로 도서를 하나씩 로딩하고 삭제합니다. - bulk: AuthorService.deleteAuthor의
+ * 방식으로, 저자 id 기준의 DELETE 문 한 번으로 도서를 삭제합니다.
+ * <p>
+ * 실행 방법: ./gradlew jmh -PjmhIncludes=AuthorDeleteBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AuthorDeleteBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int bookCount;
+
+    @Param({"cascade", "bulk"})
+    public String strategy;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private AuthorRepository authorRepository;
+    private AuthorService authorService;
+
+    private long nextBookId = 1_000_000_000L;
+    private long authorId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(ManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:author-delete-benchmark;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=warn")
+                .run();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        authorRepository = context.getBean(AuthorRepository.class);
+        authorService = context.getBean(AuthorService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void seedAuthorWithBooks() {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "insert into author (version, name, email) values (0, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, "저자");
+            statement.setString(2, "author" + nextBookId + "@email.com");
+            return statement;
+        }, keyHolder);
+        authorId = keyHolder.getKey().longValue();
+
+        List<Object[]> rows = new ArrayList<>(bookCount);
+        Date publicationDate = Date.valueOf(LocalDate.of(2024, 1, 1));
+        for (int i = 0; i < bookCount; i++) {
+            long bookId = nextBookId++;
+            rows.add(new Object[]{bookId, "제목" + bookId, "설명", String.valueOf(bookId), publicationDate, authorId});
+        }
+        jdbcTemplate.batchUpdate("insert into book (id, version, title, description, isbn, publication_date, author_id) "
+                + "values (?, 0, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @Benchmark
+    public void deleteAuthor() {
+        if ("cascade".equals(strategy)) {
+            transactionTemplate.executeWithoutResult(status ->
+                    authorRepository.findById(authorId).ifPresent(authorRepository::delete));
+        } else {
+            authorService.deleteAuthor(authorId);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+}
@@ -0,0 +1,102 @@
+package books.management.benchmark;
+
+import books.management.domain.book.dto.response.BookResponseDto;
+import books.management.global.common.response.ApiResponse;
+import books.management.global.common.response.ResponseCode;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 도서 10,000건의 목록 응답(ApiResponse<List<BookResponseDto>>)을 형식별(JSON, Smile, CBOR)로 직렬화하는 시간과 응답 크기를 측정합니다. - 애플리케이션과 동일하게
+ * SNAKE_CASE 전략을 사용하며, 응답 크기는 payloadBytes 보조 지표로 결과에 함께 기록됩니다.
+ * <p>
+ * 실행 방법: ./gradlew jmh -PjmhIncludes=BinaryFormatBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    @Param({"10000"})
+    public int size;
+
+    private ObjectWriter objectWriter;
+    private ApiResponse<List<BookResponseDto>> response;
+
+    @Setup
+    public void createResponse() throws JsonProcessingException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factoryOf(format))
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .build();
+        objectWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructParametricType(ApiResponse.class,
+                        objectMapper.getTypeFactory().constructCollectionType(List.class, BookResponseDto.class)));
+
+        List<BookResponseDto> books = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            books.add(BookResponseDto.builder()
+                    .id((long) i)
+                    .title("제목" + i)
+                    .description("도서 설명 " + i)
+                    .isbn(String.valueOf(1_000_000_000L + i * 10L))
+                    .publicationDate("2024-01-01")
+                    .authorId((long) (i % 100))
+                    .build());
+        }
+        response = ApiResponse.of(ResponseCode.GET, books);
+        System.out.printf("%n%s payload: %,d bytes%n", format, objectWriter.writeValueAsBytes(response).length);
+    }
+
+    @Benchmark
+    public byte[] serialize(Payload payload) throws JsonProcessingException {
+        byte[] bytes = objectWriter.writeValueAsBytes(response);
+        payload.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    private static JsonFactory factoryOf(String format) {
+        return switch (format) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+    }
+
+    /**
+     * 직렬화된 응답의 크기를 결과에 함께 기록하기 위한 보조 지표입니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long payloadBytes;
+    }
+}
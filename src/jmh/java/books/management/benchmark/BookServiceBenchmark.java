@@ -0,0 +1,126 @@
+package books.management.benchmark;
+
+import books.management.ManagementApplication;
+import books.management.domain.book.application.BookService;
+import books.management.domain.book.dto.request.BookRequestDto;
+import books.management.domain.book.dto.response.BookResponseDto;
+import books.management.global.common.pagination.CursorCodec;
+import books.management.global.common.response.CursorResponse;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 인메모리 H2에 도서를 미리 적재한 상태에서 BookService의 생성, 목록 조회 비용을 측정합니다. - 목록 조회는 첫 페이지와 마지막 부근 페이지를 모두 측정하여, 커서 기반 조회의 비용이 페이지 깊이와
+ * 무관한지 확인합니다.
+ * <p>
+ * 실행 방법: ./gradlew jmh -PjmhIncludes=BookServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookServiceBenchmark {
+
+    private static final long SEEDED_BOOK_ID_START = 1_000_000_000L;
+    private static final int SEED_BATCH_SIZE = 1_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "100000"})
+    public int bookCount;
+
+    private ConfigurableApplicationContext context;
+    private BookService bookService;
+    private long authorId;
+    private String deepPageCursor;
+    private long nextIsbn = 1_000_000L;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(ManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:book-service-benchmark;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=warn")
+                .run();
+        bookService = context.getBean(BookService.class);
+        seedBooks(context.getBean(JdbcTemplate.class));
+        deepPageCursor = CursorCodec.encodeId(SEEDED_BOOK_ID_START + bookCount - PAGE_SIZE * 2L);
+    }
+
+    @Benchmark
+    public CursorResponse<BookResponseDto> findAllBooksFirstPage() {
+        return bookService.findAllBooks(null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorResponse<BookResponseDto> findAllBooksDeepPage() {
+        return bookService.findAllBooks(deepPageCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public void create() {
+        long isbn = nextIsbn++;
+        bookService.create(BookRequestDto.builder()
+                .title("제목" + isbn)
+                .description("설명")
+                .isbn(String.format("10%07d0", isbn % 10_000_000L))
+                .publicationDate(LocalDate.of(2024, 1, 1))
+                .authorId(authorId)
+                .build());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    /**
+     * 벤치마크 대상 도서를 JDBC 배치로 적재합니다. - 시퀀스로 생성되는 id와 겹치지 않도록 별도의 id 범위를 사용하며, ISBN은 create 벤치마크에서 생성하는 값과 겹치지 않는 범위를
+     * 사용합니다.
+     */
+    private void seedBooks(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("insert into author (version, name, email) values (0, '저자', 'benchmark@email.com')");
+        authorId = jdbcTemplate.queryForObject("select id from author where email = 'benchmark@email.com'", Long.class);
+
+        Date publicationDate = Date.valueOf(LocalDate.of(2024, 1, 1));
+        List<Object[]> rows = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < bookCount; i++) {
+            long bookId = SEEDED_BOOK_ID_START + i;
+            rows.add(new Object[]{bookId, "제목" + bookId, "설명", String.valueOf(bookId), publicationDate, authorId});
+            if (rows.size() == SEED_BATCH_SIZE) {
+                insertBooks(jdbcTemplate, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            insertBooks(jdbcTemplate, rows);
+        }
+    }
+
+    private void insertBooks(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("insert into book (id, version, title, description, isbn, publication_date, author_id) "
+                + "values (?, 0, ?, ?, ?, ?, ?)", rows);
+    }
+}
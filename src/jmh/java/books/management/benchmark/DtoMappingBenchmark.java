@@ -0,0 +1,72 @@
+package books.management.benchmark;
+
+import books.management.domain.author.domain.Author;
+import books.management.domain.author.dto.response.AuthorResponseDto;
+import books.management.domain.book.domain.Book;
+import books.management.domain.book.dto.response.BookResponseDto;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 엔티티를 응답 DTO로 변환하는 비용을 측정합니다. - 목록 조회 API는 페이지 크기만큼 변환을 반복하므로, 페이지 크기별로 측정합니다.
+ * <p>
+ * 실행 방법: ./gradlew jmh -PjmhIncludes=DtoMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"1", "20", "100"})
+    public int size;
+
+    private List<Book> books;
+    private List<Author> authors;
+
+    @Setup
+    public void createEntities() {
+        books = new ArrayList<>(size);
+        authors = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Author author = Author.of("저자" + i, "author" + i + "@email.com");
+            authors.add(author);
+            books.add(Book.builder()
+                    .title("제목" + i)
+                    .description("도서 설명 " + i)
+                    .isbn(String.valueOf(1_000_000_000L + i * 10L))
+                    .publicationDate(LocalDate.of(2024, 1, 1).plusDays(i))
+                    .author(author)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<BookResponseDto> bookResponseDtoFrom() {
+        return books.stream()
+                .map(BookResponseDto::from)
+                .toList();
+    }
+
+    @Benchmark
+    public List<AuthorResponseDto> authorResponseDtoFrom() {
+        return authors.stream()
+                .map(AuthorResponseDto::from)
+                .toList();
+    }
+}
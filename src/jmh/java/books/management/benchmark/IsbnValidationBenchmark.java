@@ -0,0 +1,84 @@
+package books.management.benchmark;
+
+import books.management.domain.book.dto.request.BookRequestDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 도서 요청 DTO의 Bean Validation 비용을 측정합니다. - ISBN 필드의 @Length, @Pattern 검증만 수행하는 경우와 요청 전체를 검증하는 경우를 유효한 값, 유효하지 않은 값으로 나누어
+ * 측정합니다.
+ * <p>
+ * 실행 방법: ./gradlew jmh -PjmhIncludes=IsbnValidationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsbnValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private BookRequestDto validRequest;
+    private BookRequestDto invalidRequest;
+
+    @Setup
+    public void createValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validRequest = createRequest("1234567890");
+        invalidRequest = createRequest("9912345678");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BookRequestDto>> validateValidIsbn() {
+        return validator.validateProperty(validRequest, "isbn");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BookRequestDto>> validateInvalidIsbn() {
+        return validator.validateProperty(invalidRequest, "isbn");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BookRequestDto>> validateValidRequest() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BookRequestDto>> validateInvalidRequest() {
+        return validator.validate(invalidRequest);
+    }
+
+    @TearDown
+    public void closeValidator() {
+        validatorFactory.close();
+    }
+
+    private BookRequestDto createRequest(String isbn) {
+        return BookRequestDto.builder()
+                .title("제목")
+                .description("설명")
+                .isbn(isbn)
+                .publicationDate(LocalDate.of(2024, 1, 1))
+                .authorId(1L)
+                .build();
+    }
+}
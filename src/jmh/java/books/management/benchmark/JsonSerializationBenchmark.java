@@ -0,0 +1,79 @@
+package books.management.benchmark;
+
+import books.management.domain.book.dto.response.BookResponseDto;
+import books.management.global.common.response.ApiResponse;
+import books.management.global.common.response.ResponseCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 목록 조회 응답(ApiResponse<List<BookResponseDto>>)을 JSON으로 직렬화하는 비용을 측정합니다. - 애플리케이션과 동일하게 SNAKE_CASE 전략을 사용하는 ObjectMapper로
+ * 직렬화합니다.
+ * <p>
+ * 실행 방법: ./gradlew jmh -PjmhIncludes=JsonSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"1", "20", "100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter objectWriter;
+    private ApiResponse<List<BookResponseDto>> response;
+
+    @Setup
+    public void createResponse() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .build();
+        objectWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructParametricType(ApiResponse.class,
+                        objectMapper.getTypeFactory().constructCollectionType(List.class, BookResponseDto.class)));
+
+        List<BookResponseDto> books = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            books.add(BookResponseDto.builder()
+                    .id((long) i)
+                    .title("제목" + i)
+                    .description("도서 설명 " + i)
+                    .isbn(String.valueOf(1_000_000_000L + i * 10L))
+                    .publicationDate("2024-01-01")
+                    .authorId(1L)
+                    .build());
+        }
+        response = ApiResponse.of(ResponseCode.GET, books);
+    }
+
+    @Benchmark
+    public byte[] serializeWithObjectMapper() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeWithTypedWriter() throws JsonProcessingException {
+        return objectWriter.writeValueAsBytes(response);
+    }
+}
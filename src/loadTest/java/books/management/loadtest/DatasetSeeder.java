@@ -0,0 +1,97 @@
+package books.management.loadtest;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 부하 테스트용 저자와 도서를 JDBC 배치로 적재합니다. - 애플리케이션이 준비되기 전(ContextRefreshedEvent)에 적재하므로, 시작 시 생성되는 ISBN 필터와 검색 색인에도 적재한 데이터가
+ * 포함됩니다. - 도서 중 앞쪽은 조회/수정 대상, 뒤쪽은 삭제 대상으로 나누어 사용하며, 삭제 대상은 설정한 워크로드에서 예상되는 삭제 요청 수보다 넉넉하게 적재합니다.
+ */
+final class DatasetSeeder implements ApplicationListener<ContextRefreshedEvent> {
+
+    static final long BOOK_ID_START = 1_000_000_000L;
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final LoadTestOptions options;
+    private Dataset dataset;
+
+    DatasetSeeder(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    @Override
+    public synchronized void onApplicationEvent(ContextRefreshedEvent event) {
+        if (dataset != null) {
+            return;
+        }
+        JdbcTemplate jdbcTemplate = event.getApplicationContext().getBean(JdbcTemplate.class);
+        List<Long> authorIds = seedAuthors(jdbcTemplate);
+        int deletableBooks = deletableBooks();
+        seedBooks(jdbcTemplate, authorIds, options.books() + deletableBooks);
+        dataset = new Dataset(authorIds, options.books(), deletableBooks);
+    }
+
+    Dataset dataset() {
+        return dataset;
+    }
+
+    private int deletableBooks() {
+        int deleteWeight = options.mix().getOrDefault(Operation.DELETE_BOOK, 0);
+        long expectedDeletes = options.totalRequests() * deleteWeight / options.totalWeight();
+        return (int) Math.max(expectedDeletes * 3 / 2, 100);
+    }
+
+    private List<Long> seedAuthors(JdbcTemplate jdbcTemplate) {
+        List<Object[]> rows = new ArrayList<>(options.authors());
+        for (int i = 0; i < options.authors(); i++) {
+            rows.add(new Object[]{"저자" + i, "loadtest" + i + "@email.com"});
+        }
+        jdbcTemplate.batchUpdate("insert into author (version, name, email) values (0, ?, ?)", rows);
+        return jdbcTemplate.queryForList("select id from author order by id", Long.class);
+    }
+
+    private void seedBooks(JdbcTemplate jdbcTemplate, List<Long> authorIds, int count) {
+        Date publicationDate = Date.valueOf(LocalDate.of(2024, 1, 1));
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{BOOK_ID_START + i, "제목" + i, "설명" + i, Dataset.isbnOf(i), publicationDate,
+                    authorIds.get(i % authorIds.size())});
+            if (rows.size() == BATCH_SIZE) {
+                insertBooks(jdbcTemplate, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            insertBooks(jdbcTemplate, rows);
+        }
+    }
+
+    private void insertBooks(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("insert into book (id, version, title, description, isbn, publication_date, author_id) "
+                + "values (?, 0, ?, ?, ?, ?, ?)", rows);
+    }
+
+    /**
+     * 적재한 데이터의 위치 정보입니다. - 도서의 id, ISBN, 저자는 인덱스로부터 계산할 수 있으므로 별도로 보관하지 않습니다.
+     */
+    record Dataset(List<Long> authorIds, int readableBooks, int deletableBooks) {
+
+        static String isbnOf(int index) {
+            return String.format("20%07d0", index);
+        }
+
+        long bookIdOf(int index) {
+            return BOOK_ID_START + index;
+        }
+
+        long authorIdOf(int index) {
+            return authorIds.get(index % authorIds.size());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package books.management.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 두 부하 테스트 결과(summary.json)를 요청 종류별로 비교하여 출력합니다. - 기본적으로 플랫폼 스레드 모드와 가상 스레드 모드의 결과를 비교하는 데 사용합니다.
+ * <p>
+ * 실행 방법: ./gradlew loadTestCompare -PjavaVersion=21
+ */
+public final class LoadTestComparison {
+
+    private static final String[] METRICS = {"throughput", "p50_ms", "p99_ms", "p999_ms"};
+
+    private LoadTestComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode baseline = objectMapper.readTree(Path.of(args[0], "summary.json").toFile());
+        JsonNode candidate = objectMapper.readTree(Path.of(args[1], "summary.json").toFile());
+
+        System.out.printf("%n%s (%s) vs %s (%s)%n", args[0], baseline.path("threads").asText(),
+                args[1], candidate.path("threads").asText());
+        System.out.printf("%-20s %-12s %12s %12s %9s%n", "endpoint", "metric", "baseline", "candidate", "change");
+
+        Iterator<Map.Entry<String, JsonNode>> endpoints = baseline.path("endpoints").fields();
+        while (endpoints.hasNext()) {
+            Map.Entry<String, JsonNode> endpoint = endpoints.next();
+            JsonNode other = candidate.path("endpoints").path(endpoint.getKey());
+            if (other.isMissingNode()) {
+                continue;
+            }
+            for (String metric : METRICS) {
+                double before = endpoint.getValue().path(metric).asDouble();
+                double after = other.path(metric).asDouble();
+                String change = before == 0 ? "-" : String.format("%+.1f%%", (after - before) / before * 100);
+                System.out.printf("%-20s %-12s %12.2f %12.2f %9s%n", endpoint.getValue().path("endpoint").asText(),
+                        metric, before, after, change);
+            }
+        }
+    }
+}
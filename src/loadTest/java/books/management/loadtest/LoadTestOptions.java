@@ -0,0 +1,83 @@
+package books.management.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정입니다. - 모든 값은 시스템 프로퍼티(loadtest.*)로 변경할 수 있으며, Gradle에서는 -Ploadtest.rate=500 과 같이 전달합니다.
+ */
+record LoadTestOptions(
+        int durationSeconds,
+        int warmupSeconds,
+        int rate,
+        int clients,
+        boolean virtualThreads,
+        int books,
+        int authors,
+        Map<Operation, Integer> mix,
+        double defaultP99Millis,
+        double defaultP999Millis,
+        double maxErrorRate,
+        Path reportDir) {
+
+    private static final String DEFAULT_MIX = "create=10,read=45,update=10,delete=5,list=20,author_read=5,author_list=5";
+
+    static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                Integer.getInteger("loadtest.durationSeconds", 30),
+                Integer.getInteger("loadtest.warmupSeconds", 5),
+                Integer.getInteger("loadtest.rate", 200),
+                Integer.getInteger("loadtest.clients", 64),
+                "virtual".equals(System.getProperty("loadtest.threads", "platform")),
+                Integer.getInteger("loadtest.books", 10_000),
+                Integer.getInteger("loadtest.authors", 100),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                doubleProperty("loadtest.threshold.p99Millis", 200),
+                doubleProperty("loadtest.threshold.p999Millis", 1_000),
+                doubleProperty("loadtest.threshold.errorRate", 0.01),
+                Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest")));
+    }
+
+    /**
+     * 요청 종류별 p99 임계값입니다. - loadtest.threshold.<key>.p99Millis 가 없으면 공통 임계값을 사용합니다.
+     */
+    double p99Millis(Operation operation) {
+        return doubleProperty("loadtest.threshold." + operation.key() + ".p99Millis", defaultP99Millis);
+    }
+
+    double p999Millis(Operation operation) {
+        return doubleProperty("loadtest.threshold." + operation.key() + ".p999Millis", defaultP999Millis);
+    }
+
+    long totalRequests() {
+        return (long) rate * (warmupSeconds + durationSeconds);
+    }
+
+    int totalWeight() {
+        return mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.fromKey(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix must contain at least one positive weight");
+        }
+        return mix;
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
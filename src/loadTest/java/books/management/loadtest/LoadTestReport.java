@@ -0,0 +1,103 @@
+package books.management.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과를 출력하고 저장하며, 임계값을 넘은 항목을 반환합니다. - summary.json 에는 요청 종류별 처리량과 백분위 응답 시간을, <key>.hgrm 에는 HdrHistogram 백분위 분포를
+ * 저장하므로 릴리즈 간 결과를 비교할 수 있습니다.
+ */
+final class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private final LoadTestOptions options;
+    private final Map<Operation, EndpointStats> stats;
+
+    LoadTestReport(LoadTestOptions options, Map<Operation, EndpointStats> stats) {
+        this.options = options;
+        this.stats = stats;
+    }
+
+    List<String> write() throws IOException {
+        Files.createDirectories(options.reportDir());
+        List<String> violations = new ArrayList<>();
+        Map<String, Object> summary = new LinkedHashMap<>();
+
+        System.out.printf("%n%-20s %9s %10s %10s %10s %10s %10s %8s%n",
+                "endpoint", "count", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "errors");
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            Operation operation = entry.getKey();
+            EndpointStats endpoint = entry.getValue();
+            double throughput = (double) endpoint.count() / options.durationSeconds();
+            System.out.printf("%-20s %9d %10.1f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                    operation.endpoint(), endpoint.count(), throughput, endpoint.percentileMillis(50),
+                    endpoint.percentileMillis(99), endpoint.percentileMillis(99.9), endpoint.maxMillis(),
+                    endpoint.errors());
+
+            violations.addAll(checkThresholds(operation, endpoint));
+            summary.put(operation.key(), summaryOf(operation, endpoint, throughput));
+            writeHistogram(operation, endpoint);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("rate", options.rate());
+        report.put("duration_seconds", options.durationSeconds());
+        report.put("clients", options.clients());
+        report.put("threads", options.virtualThreads() ? "virtual" : "platform");
+        report.put("endpoints", summary);
+        report.put("violations", violations);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(options.reportDir().resolve("summary.json").toFile(), report);
+
+        violations.forEach(violation -> System.out.println("THRESHOLD EXCEEDED: " + violation));
+        return violations;
+    }
+
+    private List<String> checkThresholds(Operation operation, EndpointStats endpoint) {
+        List<String> violations = new ArrayList<>();
+        if (endpoint.count() == 0) {
+            return violations;
+        }
+        if (endpoint.percentileMillis(99) > options.p99Millis(operation)) {
+            violations.add(String.format("%s p99 %.2fms > %.2fms", operation.endpoint(),
+                    endpoint.percentileMillis(99), options.p99Millis(operation)));
+        }
+        if (endpoint.percentileMillis(99.9) > options.p999Millis(operation)) {
+            violations.add(String.format("%s p999 %.2fms > %.2fms", operation.endpoint(),
+                    endpoint.percentileMillis(99.9), options.p999Millis(operation)));
+        }
+        if (endpoint.errorRate() > options.maxErrorRate()) {
+            violations.add(String.format("%s error rate %.4f > %.4f %s", operation.endpoint(),
+                    endpoint.errorRate(), options.maxErrorRate(), endpoint.errorsByStatus()));
+        }
+        return violations;
+    }
+
+    private Map<String, Object> summaryOf(Operation operation, EndpointStats endpoint, double throughput) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("endpoint", operation.endpoint());
+        summary.put("count", endpoint.count());
+        summary.put("throughput", throughput);
+        summary.put("p50_ms", endpoint.percentileMillis(50));
+        summary.put("p99_ms", endpoint.percentileMillis(99));
+        summary.put("p999_ms", endpoint.percentileMillis(99.9));
+        summary.put("max_ms", endpoint.maxMillis());
+        summary.put("errors", endpoint.errors());
+        summary.put("errors_by_status", endpoint.errorsByStatus());
+        return summary;
+    }
+
+    private void writeHistogram(Operation operation, EndpointStats endpoint) throws IOException {
+        try (PrintStream out = new PrintStream(options.reportDir().resolve(operation.key() + ".hgrm").toFile())) {
+            endpoint.histogram().outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+}
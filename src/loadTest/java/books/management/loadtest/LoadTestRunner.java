@@ -0,0 +1,213 @@
+package books.management.loadtest;
+
+import books.management.ManagementApplication;
+import books.management.global.common.pagination.CursorCodec;
+import books.management.loadtest.DatasetSeeder.Dataset;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * ManagementApplication을 임의의 포트로 실행하고 HTTP 부하를 발생시켜 요청 종류별 응답 시간 분포를 측정합니다.
+ * <p>
+ * - 부하는 개방형(open model)으로 발생시킵니다. 요청은 응답 여부와 관계없이 loadtest.rate 에 맞춘 예정 시각에 발행되며, 응답 시간은 실제 발행 시각이 아닌 예정 시각부터 측정하므로
+ * 서버가 밀려 대기한 시간(coordinated omission)도 응답 시간에 포함됩니다.
+ * <p>
+ * - loadtest.threads=virtual 이면 서버가 가상 스레드로 요청을 처리하며, loadTestCompare 태스크로 플랫폼 스레드 모드와 결과를 비교할 수 있습니다.
+ * <p>
+ * - 측정이 끝나면 결과를 출력하고 build/reports/loadtest 에 저장하며, 임계값을 넘는 요청 종류가 있으면 0이 아닌 종료 코드로 끝나 빌드를 실패시킵니다.
+ * <p>
+ * 실행 방법: ./gradlew loadTest -Ploadtest.rate=500 -Ploadtest.durationSeconds=60
+ */
+public final class LoadTestRunner {
+
+    private static final int PAGE_SIZE = 20;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestOptions options;
+    private final Dataset dataset;
+    private final URI baseUri;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicLong nextCreatedIsbn = new AtomicLong();
+    private final AtomicInteger nextDeletedBook = new AtomicInteger();
+
+    private LoadTestRunner(LoadTestOptions options, Dataset dataset, URI baseUri) {
+        this.options = options;
+        this.dataset = dataset;
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Operation operation : options.mix().keySet()) {
+            stats.put(operation, new EndpointStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        if (options.virtualThreads() && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("loadtest.threads=virtual requires Java 21, run with -PjavaVersion=21");
+        }
+        DatasetSeeder seeder = new DatasetSeeder(options);
+
+        List<String> violations;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ManagementApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + options.virtualThreads(),
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=warn")
+                .listeners(seeder)
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestRunner runner = new LoadTestRunner(options, seeder.dataset(), URI.create("http://localhost:" + port));
+            runner.run();
+            violations = new LoadTestReport(options, runner.stats).write();
+        }
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    private void run() throws InterruptedException {
+        Operation[] schedule = weightedSchedule();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long recordFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = recordFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+
+        ExecutorService clients = Executors.newFixedThreadPool(options.clients());
+        try {
+            for (long i = 0; ; i++) {
+                long intendedStart = start + i * intervalNanos;
+                if (intendedStart >= end) {
+                    break;
+                }
+                long waitNanos = intendedStart - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+                Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                boolean record = intendedStart >= recordFrom;
+                clients.execute(() -> execute(operation, intendedStart, record));
+            }
+        } finally {
+            clients.shutdown();
+            clients.awaitTermination(REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS);
+        }
+    }
+
+    private void execute(Operation operation, long intendedStart, boolean record) {
+        int status;
+        boolean success;
+        try {
+            HttpResponse<String> response = httpClient.send(request(operation), BodyHandlers.ofString());
+            status = responseStatus(response);
+            success = status >= 200 && status < 300;
+        } catch (IOException e) {
+            status = -1;
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (record) {
+            stats.get(operation).record(System.nanoTime() - intendedStart, success, status);
+        }
+    }
+
+    /**
+     * 응답의 상태 코드를 반환합니다. - 이 애플리케이션은 비즈니스 오류도 HTTP 200으로 응답하고 본문의 status에 실제 상태를 담으므로, 본문의 status를 우선합니다.
+     */
+    private int responseStatus(HttpResponse<String> response) throws IOException {
+        if (response.statusCode() < 200 || response.statusCode() >= 300 || response.body().isBlank()) {
+            return response.statusCode();
+        }
+        JsonNode body = objectMapper.readTree(response.body());
+        return body.path("status").asInt(response.statusCode());
+    }
+
+    private HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int bookIndex = random.nextInt(dataset.readableBooks());
+        return switch (operation) {
+            case CREATE_BOOK -> {
+                long sequence = nextCreatedIsbn.getAndIncrement();
+                yield jsonRequest("/books", "POST", bookBody("부하 테스트 도서 " + sequence,
+                        String.format("30%07d0", sequence % 10_000_000L),
+                        dataset.authorIdOf(random.nextInt(dataset.authorIds().size()))));
+            }
+            case READ_BOOK -> get("/books/" + dataset.bookIdOf(bookIndex));
+            case UPDATE_BOOK -> jsonRequest("/books/" + dataset.bookIdOf(bookIndex), "PUT",
+                    bookBody("수정된 제목" + random.nextInt(1_000), Dataset.isbnOf(bookIndex),
+                            dataset.authorIdOf(bookIndex)));
+            case DELETE_BOOK -> {
+                int deletedBook = nextDeletedBook.getAndIncrement();
+                yield HttpRequest.newBuilder(baseUri.resolve(
+                                "/books/" + dataset.bookIdOf(dataset.readableBooks() + deletedBook)))
+                        .timeout(REQUEST_TIMEOUT)
+                        .DELETE()
+                        .build();
+            }
+            case LIST_BOOKS -> get("/books?limit=" + PAGE_SIZE + "&after_id="
+                    + CursorCodec.encodeId(dataset.bookIdOf(bookIndex)));
+            case READ_AUTHOR -> get("/authors/" + dataset.authorIdOf(random.nextInt(dataset.authorIds().size())));
+            case LIST_AUTHORS -> get("/authors?limit=" + PAGE_SIZE);
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest jsonRequest(String path, String method, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method(method, BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String bookBody(String title, String isbn, long authorId) {
+        return String.format("{\"title\":\"%s\",\"description\":\"부하 테스트\",\"isbn\":\"%s\","
+                + "\"publication_date\":\"2024-01-01\",\"author_id\":%d}", title, isbn, authorId);
+    }
+
+    /**
+     * 요청 종류를 비율만큼 반복해 담은 배열을 만듭니다. - 배열에서 임의로 하나를 고르면 설정한 비율대로 요청 종류가 선택됩니다.
+     */
+    private Operation[] weightedSchedule() {
+        Operation[] schedule = new Operation[options.totalWeight()];
+        int position = 0;
+        for (Map.Entry<Operation, Integer> entry : options.mix().entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                schedule[position++] = entry.getKey();
+            }
+        }
+        return schedule;
+    }
+}
@@ -0,0 +1,41 @@
+package books.management.loadtest;
+
+/**
+ * 부하 테스트에서 실행하는 요청의 종류입니다. - key는 워크로드 비율과 임계값을 설정할 때 사용하는 이름입니다.
+ */
+enum Operation {
+
+    CREATE_BOOK("create", "POST /books"),
+    READ_BOOK("read", "GET /books/{id}"),
+    UPDATE_BOOK("update", "PUT /books/{id}"),
+    DELETE_BOOK("delete", "DELETE /books/{id}"),
+    LIST_BOOKS("list", "GET /books"),
+    READ_AUTHOR("author_read", "GET /authors/{id}"),
+    LIST_AUTHORS("author_list", "GET /authors"),
+    ;
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation in loadtest.mix: " + key);
+    }
+}
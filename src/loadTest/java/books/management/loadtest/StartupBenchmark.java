@@ -0,0 +1,167 @@
+package books.management.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션을 별도의 JVM으로 실행하여, 프로세스 시작부터 첫 GET /books/{id} 성공 응답까지의 시간을 실행 모드별로 측정합니다.
+ * <p>
+ * - baseline: 기존 방식 (springdoc 즉시 초기화)
+ * <p>
+ * - lazy-springdoc: springdoc 빈의 초기화를 첫 사용 시점으로 미룸
+ * <p>
+ * - cds: lazy-springdoc + cdsArchive 태스크의 학습 실행으로 만든 AppCDS 아카이브
+ * <p>
+ * - aot, aot+cds: -Paot 로 빌드한 경우 Spring AOT 처리 결과를 사용 (AOT는 빌드 시점의 설정이 고정되므로 baseline과 함께 측정하지 않습니다.)
+ * <p>
+ * 측정할 도서는 startup/seed.sql 로 생성하며, 결과는 출력 후 build/reports/startupBenchmark/startup.json 에 저장합니다.
+ * <p>
+ * 실행 방법: ./gradlew startupBenchmark [-Paot] [-Pstartup.runs=5]
+ */
+public final class StartupBenchmark {
+
+    private static final long SEEDED_BOOK_ID = 1_000_000_000L;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final long POLL_INTERVAL_MILLIS = 5;
+
+    private final Path jar;
+    private final Path archive;
+    private final Path seedSql;
+    private final Path reportDir;
+    private final int runs;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private StartupBenchmark() {
+        this.jar = Path.of(System.getProperty("startup.jar"));
+        this.archive = Path.of(System.getProperty("startup.archive"));
+        this.seedSql = Path.of(System.getProperty("startup.seedSql"));
+        this.reportDir = Path.of(System.getProperty("startup.reportDir", "build/reports/startupBenchmark"));
+        this.runs = Integer.getInteger("startup.runs", 5);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new StartupBenchmark().run(Boolean.getBoolean("startup.aot"));
+    }
+
+    private void run(boolean aot) throws Exception {
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        if (aot) {
+            modes.put("aot", List.of("-Dspring.aot.enabled=true"));
+            modes.put("aot+cds", List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + archive));
+        } else {
+            modes.put("baseline", List.of("-Dbooks.startup.lazy-springdoc=false"));
+            modes.put("lazy-springdoc", List.of());
+            modes.put("cds", List.of("-XX:SharedArchiveFile=" + archive));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        System.out.printf("%n%-16s %10s %10s %10s%n", "mode", "min(ms)", "median(ms)", "max(ms)");
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            long[] millis = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                millis[i] = timeToFirstGet(mode.getKey(), mode.getValue());
+            }
+            Arrays.sort(millis);
+            System.out.printf("%-16s %10d %10d %10d%n", mode.getKey(), millis[0], millis[runs / 2], millis[runs - 1]);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("jvm_args", mode.getValue());
+            summary.put("runs_ms", millis);
+            summary.put("min_ms", millis[0]);
+            summary.put("median_ms", millis[runs / 2]);
+            summary.put("max_ms", millis[runs - 1]);
+            report.put(mode.getKey(), summary);
+        }
+
+        Files.createDirectories(reportDir);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportDir.resolve("startup.json").toFile(), report);
+        System.out.println("Results written to " + reportDir.resolve("startup.json"));
+    }
+
+    private long timeToFirstGet(String mode, List<String> jvmArgs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmArgs);
+        command.addAll(List.of(
+                "-jar", jar.toString(),
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:startup",
+                "--spring.jpa.defer-datasource-initialization=true",
+                "--spring.sql.init.mode=always",
+                "--spring.sql.init.data-locations=file:" + seedSql,
+                "--logging.level.root=warn"));
+        Path log = Files.createDirectories(reportDir).resolve(mode.replace('+', '-') + ".log");
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            URI uri = URI.create("http://localhost:" + port + "/books/" + SEEDED_BOOK_ID);
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode + " exited with " + process.exitValue() + ", see " + log);
+                }
+                if (isSuccessful(uri)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+            throw new IllegalStateException(mode + " did not answer within " + STARTUP_TIMEOUT + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    /**
+     * 응답 본문의 status가 200인지 확인합니다. - 이 애플리케이션은 비즈니스 오류도 HTTP 200으로 응답하므로 본문의 status로 성공 여부를 판단합니다.
+     */
+    private boolean isSuccessful(URI uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build();
+        try {
+            HttpResponse<String> response = httpClient.send(request, BodyHandlers.ofString());
+            if (response.statusCode() != 200 || response.body().isBlank()) {
+                return false;
+            }
+            JsonNode body = objectMapper.readTree(response.body());
+            return body.path("status").asInt() == 200;
+        } catch (ConnectException | HttpTimeoutException e) {
+            return false;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
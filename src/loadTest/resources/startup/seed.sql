@@ -0,0 +1,7 @@
+-- StartupBenchmark가 첫 GET /books/{id} 응답까지의 시간을 측정할 때 조회하는 데이터입니다.
+-- 애플리케이션이 생성하는 식별자와 겹치지 않도록 큰 식별자를 사용합니다.
+insert into author (id, version, name, email)
+values (1000000000, 0, '시작 시간 측정 저자', 'startup@email.com');
+
+insert into book (id, version, title, description, isbn, publication_date, author_id)
+values (1000000000, 0, '시작 시간 측정 도서', '시작 시간 측정용 도서입니다.', '4000000000', '2024-01-01', 1000000000);
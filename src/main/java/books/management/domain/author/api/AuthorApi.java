@@ -1,21 +1,37 @@
 package books.management.domain.author.api;
 
 import books.management.domain.author.application.AuthorService;
+import books.management.domain.author.dto.request.AuthorPatchRequestDto;
 import books.management.domain.author.dto.request.AuthorRequestDto;
 import books.management.domain.author.dto.response.AuthorResponseDto;
+import books.management.domain.author.dto.response.AuthorWithBooksResponseDto;
+import books.management.domain.ingest.application.WriteBehindQueue;
+import books.management.domain.ingest.dto.response.WriteTicketResponseDto;
+import books.management.global.common.idempotency.IdempotencyStore;
+import books.management.global.common.pagination.CursorCodec;
 import books.management.global.common.response.ApiResponse;
+import books.management.global.common.response.CursorResponse;
 import books.management.global.common.response.ResponseCode;
+import books.management.global.common.snapshot.ListSnapshotCache;
+import books.management.global.common.web.EntityTags;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import java.util.List;
+import java.io.IOException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,6 +40,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthorApi {
 
     private final AuthorService authorService;
+    private final WriteBehindQueue writeBehindQueue;
+    private final IdempotencyStore idempotencyStore;
+    private final ListSnapshotCache listSnapshotCache;
 
     @PostMapping
     @Operation(summary = "저자 생성 API",
@@ -32,38 +51,110 @@ public class AuthorApi {
                     - 저자 이름, 이메일을 입력 받아 저장합니다.
                     - 저자 이름, 이메일은 필수 입력값입니다.
                     - 이메일은 중복일 수 없습니다.
-                    - 이메일은 규칙에 맞는 이메일 형식이어야 합니다.""")
-    public ApiResponse<Void> create(@RequestBody @Valid AuthorRequestDto request) {
-        authorService.create(request);
-        return ApiResponse.of(ResponseCode.CREATED);
+                    - 이메일은 규칙에 맞는 이메일 형식이어야 합니다.
+                    - 비동기 등록 모드(books.write-behind.enabled=true)에서는 요청을 대기열에 담고 즉시 ticket_id를 반환합니다.
+                        - 처리 결과는 GET /writes/{ticket_id} 로 조회합니다.
+                        - 대기열이 가득 차면 429 응답을 반환합니다.
+                    - Idempotency-Key 헤더를 함께 보내면, 같은 키로 재시도한 요청에는 처음 요청의 결과를 그대로 반환합니다.
+                        - 같은 키의 요청이 동시에 들어오면 한 번만 처리됩니다.
+                        - 같은 키로 다른 내용의 요청을 보내면 422 응답을 반환합니다.""")
+    public ApiResponse<WriteTicketResponseDto> create(
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody @Valid AuthorRequestDto request) {
+        return idempotencyStore.execute("authors", idempotencyKey, request, () -> {
+            if (writeBehindQueue.isEnabled()) {
+                return ApiResponse.of(ResponseCode.ACCEPTED, writeBehindQueue.submit(request));
+            }
+            authorService.create(request);
+            return ApiResponse.<WriteTicketResponseDto>of(ResponseCode.CREATED);
+        });
     }
 
     @GetMapping
     @Operation(summary = "저자 목록 조회 API",
             description = """
-                    저장된 모든 저자 목록을 조회하는 API 입니다.""")
-    public ApiResponse<List<AuthorResponseDto>> findAll() {
-        return ApiResponse.of(ResponseCode.GET, authorService.findAllAuthor());
+                    저장된 저자 목록을 커서 기반으로 조회하는 API 입니다.
+                    - after_id에는 이전 응답의 next_cursor 값을 입력합니다. 입력하지 않으면 첫 페이지를 조회합니다.
+                    - limit은 한 번에 조회할 개수이며, 기본값은 20, 최대값은 100입니다.
+                    - Accept 헤더에 application/x-jackson-smile 또는 application/cbor 를 입력하면 바이너리 형식으로 응답합니다.
+                    - JSON 응답은 다음 변경 전까지 직렬화, 압축된 결과를 재사용하며, Accept-Encoding 헤더에 gzip을 입력하면 압축된 응답을 반환합니다.""")
+    public ApiResponse<CursorResponse<AuthorResponseDto>> findAll(
+            @RequestParam(name = "after_id", required = false) String afterId,
+            @RequestParam(name = "limit", defaultValue = "20") int limit,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        if (listSnapshotCache.serve("authors", afterId + "," + CursorCodec.normalizeLimit(limit), request, response,
+                () -> ApiResponse.of(ResponseCode.GET, authorService.findAllAuthor(afterId, limit)))) {
+            return null;
+        }
+        return ApiResponse.of(ResponseCode.GET, authorService.findAllAuthor(afterId, limit));
+    }
+
+    @GetMapping(params = "include=books")
+    @Operation(summary = "저자 목록 및 도서 목록 조회 API",
+            description = """
+                    저자 목록을 각 저자의 도서 목록과 함께 커서 기반으로 조회하는 API 입니다.
+                    - include=books 파라미터를 입력한 경우 동작합니다.
+                    - after_id에는 이전 응답의 next_cursor 값을 입력합니다. 입력하지 않으면 첫 페이지를 조회합니다.
+                    - limit은 한 번에 조회할 저자 수이며, 기본값은 20, 최대값은 100입니다.""")
+    public ApiResponse<CursorResponse<AuthorWithBooksResponseDto>> findAllWithBooks(
+            @RequestParam(name = "after_id", required = false) String afterId,
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        return ApiResponse.of(ResponseCode.GET, authorService.findAllAuthorWithBooks(afterId, limit));
+    }
+
+    @GetMapping(value = "/{id}", params = "include=books")
+    @Operation(summary = "저자 상세 및 도서 목록 조회 API",
+            description = """
+                    해당 id를 가진 저자의 상세 정보를 도서 목록과 함께 조회하는 API 입니다.
+                    - include=books 파라미터를 입력한 경우 동작합니다.""")
+    public ApiResponse<AuthorWithBooksResponseDto> findByIdWithBooks(@PathVariable Long id) {
+        return ApiResponse.of(ResponseCode.GET, authorService.findAuthorWithBooksById(id));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "저자 상세 조회 API",
             description = """
-                    해당 id를 가진 저자의 상세 정보를 조회하는 API 입니다.""")
-    public ApiResponse<AuthorResponseDto> findById(@PathVariable Long id) {
-        return ApiResponse.of(ResponseCode.GET, authorService.findAuthorById(id));
+                    해당 id를 가진 저자의 상세 정보를 조회하는 API 입니다.
+                    - 응답의 ETag 헤더에는 저자의 버전이 포함됩니다.
+                    - If-None-Match 헤더의 값이 현재 버전과 같다면 본문 없이 304 Not Modified를 반환합니다.""")
+    public ResponseEntity<ApiResponse<AuthorResponseDto>> findById(@PathVariable Long id) {
+        AuthorResponseDto response = authorService.findAuthorById(id);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(response.getVersion()))
+                .body(ApiResponse.of(ResponseCode.GET, response));
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "저자 정보 수정 API",
             description = """
                     해당 id를 가진 저자의 정보를 수정하는 API 입니다.
+                    - If-Match 헤더에 ETag 값을 입력하면, 현재 버전과 일치하는 경우에만 수정합니다.
                     - 저자 이름, 이메일을 입력 받아 수정합니다.
                     - 저자 이름, 이메일은 필수 입력값입니다.
                     - 이메일은 중복일 수 없습니다.
                     - 이메일은 규칙에 맞는 이메일 형식이어야 합니다.""")
-    public ApiResponse<Void> update(@PathVariable Long id, @RequestBody @Valid AuthorRequestDto request) {
-        authorService.updateAuthorDetails(id, request);
+    public ApiResponse<Void> update(
+            @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Valid AuthorRequestDto request) {
+        authorService.updateAuthorDetails(id, request, EntityTags.parseIfMatch(ifMatch));
+        return ApiResponse.of(ResponseCode.UPDATED);
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(summary = "저자 정보 부분 수정 API",
+            description = """
+                    해당 id를 가진 저자의 정보 중 입력한 항목만 수정하는 API 입니다.
+                    - If-Match 헤더에 ETag 값을 입력하면, 현재 버전과 일치하는 경우에만 수정합니다.
+                    - 저자 이름, 이메일 중 수정할 항목만 입력합니다. 입력하지 않은 항목은 수정되지 않습니다.
+                    - 이메일이 변경되는 경우, 이메일은 중복일 수 없습니다.
+                    - 이메일은 규칙에 맞는 이메일 형식이어야 합니다.""")
+    public ApiResponse<Void> patch(
+            @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Valid AuthorPatchRequestDto request) {
+        authorService.patchAuthorDetails(id, request, EntityTags.parseIfMatch(ifMatch));
         return ApiResponse.of(ResponseCode.UPDATED);
     }
 
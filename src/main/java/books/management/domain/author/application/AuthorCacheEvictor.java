@@ -0,0 +1,34 @@
+package books.management.domain.author.application;
+
+import books.management.domain.author.event.AuthorChangedEvent;
+import books.management.global.common.cache.VersionedCaffeineCache;
+import books.management.global.common.event.ChangeType;
+import books.management.global.common.snapshot.ListSnapshotCache;
+import books.management.global.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 저자 변경 이벤트를 구독하여 트랜잭션 커밋 이후 저자 캐시를 무효화합니다. - 수정된 버전을 하한으로 기록하여, 무효화와 동시에 진행 중이던 조회가 커밋 이전의 값을 다시 적재하지
+ * 않도록 합니다. 삭제된 저자는 다시 적재되지 않습니다. - 생성을 포함한 모든 변경은 목록 조회 스냅샷도 무효화합니다. 저자 삭제 시 함께 삭제된 도서의 목록 스냅샷도 여기서
+ * 무효화됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthorCacheEvictor {
+
+    private final CacheManager cacheManager;
+    private final ListSnapshotCache listSnapshotCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        listSnapshotCache.invalidateAll();
+        if (event.getType() == ChangeType.CREATED) {
+            return;
+        }
+        long version = event.getType() == ChangeType.DELETED ? Long.MAX_VALUE : event.getVersion();
+        VersionedCaffeineCache.evict(cacheManager.getCache(CacheConfig.AUTHORS), event.getAuthorId(), version);
+    }
+}
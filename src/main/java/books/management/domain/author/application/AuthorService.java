@@ -2,13 +2,29 @@ package books.management.domain.author.application;
 
 import books.management.domain.author.dao.AuthorRepository;
 import books.management.domain.author.domain.Author;
+import books.management.domain.author.dto.request.AuthorPatchRequestDto;
 import books.management.domain.author.dto.request.AuthorRequestDto;
 import books.management.domain.author.dto.response.AuthorResponseDto;
+import books.management.domain.author.dto.response.AuthorWithBooksResponseDto;
+import books.management.domain.author.event.AuthorChangedEvent;
+import books.management.domain.book.dao.BookRepository;
+import books.management.global.common.pagination.CursorCodec;
+import books.management.global.common.response.CursorResponse;
+import books.management.global.config.CacheConfig;
 import books.management.global.error.exception.EntityNotFoundException;
 import books.management.global.error.exception.NonUniqueValueException;
+import books.management.global.error.exception.PreconditionFailedException;
 import books.management.global.error.response.GlobalErrorCode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +34,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthorService {
 
     private final AuthorRepository authorRepository;
+    private final BookRepository bookRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 저자를 생성합니다. - 이메일의 고유성을 유지하기 위해 가장 먼저 데이터베이스에 동일한 값이 존재하는지 확인하는 로직이 실행됩니다.
@@ -28,50 +46,193 @@ public class AuthorService {
         validateEmail(request.getEmail());
         Author author = Author.of(request.getName(), request.getEmail());
         authorRepository.save(author);
+        eventPublisher.publishEvent(AuthorChangedEvent.created(author.getId()));
     }
 
     /**
-     * 저장된 모든 저자 목록을 조회합니다. - findAll() 메서드를 사용하기 때문에 해당 테이블의 모든 데이터를 조회하는 것이므로, 데이터가 많을 경우 성능 문제가 발생할 수 있습니다.
+     * 여러 저자를 하나의 트랜잭션으로 생성합니다. - 이메일 중복 여부는 요청 전체에 대해 한 번의 쿼리로 확인하며, 요청 안에서 중복된 이메일도 함께 거절합니다.
      *
+     * @param requests
+     * @return 거절된 요청의 인덱스와 사유
+     */
+    public Map<Integer, String> createAll(List<AuthorRequestDto> requests) {
+        List<String> emails = requests.stream()
+                .map(AuthorRequestDto::getEmail)
+                .toList();
+        Set<String> reservedEmails = new HashSet<>(authorRepository.findExistingEmails(emails));
+
+        Map<Integer, String> rejected = new LinkedHashMap<>();
+        List<Author> authors = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            AuthorRequestDto request = requests.get(i);
+            if (!reservedEmails.add(request.getEmail())) {
+                rejected.put(i, GlobalErrorCode.AUTHOR_EMAIL_DUPLICATION.getMessage());
+                continue;
+            }
+            authors.add(Author.of(request.getName(), request.getEmail()));
+        }
+
+        authorRepository.saveAll(authors);
+        authors.forEach(author -> eventPublisher.publishEvent(AuthorChangedEvent.created(author.getId())));
+        return rejected;
+    }
+
+    /**
+     * 저자 목록을 커서 기반으로 조회합니다. - 마지막으로 조회한 id 이후의 저자를 limit 개수만큼 조회하므로, 페이지의 깊이와 관계없이 조회 비용이 일정합니다.
+     *
+     * @param cursor
+     * @param limit
      * @return
      */
     @Transactional(readOnly = true)
-    public List<AuthorResponseDto> findAllAuthor() {
-        List<Author> authors = authorRepository.findAll();
-        return authors.stream()
+    public CursorResponse<AuthorResponseDto> findAllAuthor(String cursor, int limit) {
+        long afterId = CursorCodec.decodeId(cursor);
+        int size = CursorCodec.normalizeLimit(limit);
+        List<AuthorResponseDto> authors = authorRepository.findViewsByIdGreaterThan(afterId, Limit.of(size + 1))
+                .stream()
                 .map(AuthorResponseDto::from)
                 .toList();
+        return CursorResponse.of(authors, size, author -> CursorCodec.encodeId(author.getId()));
     }
 
+    /**
+     * 저자 상세 정보를 조회합니다. - 조회 결과는 캐시에 저장되며, 저자가 수정되거나 삭제되면 트랜잭션 커밋 이후 캐시에서 제거됩니다. - 제거와 동시에 진행 중이던 조회가 커밋 이전의 값을
+     * 반환하더라도, 커밋된 버전보다 낮은 버전은 캐시에 다시 적재되지 않습니다(VersionedCaffeineCache).
+     *
+     * @param id
+     * @return
+     */
+    @Cacheable(cacheNames = CacheConfig.AUTHORS, key = "#id")
     @Transactional(readOnly = true)
     public AuthorResponseDto findAuthorById(Long id) {
-        Author author = findById(id);
-        return AuthorResponseDto.from(author);
+        return authorRepository.findViewById(id)
+                .map(AuthorResponseDto::from)
+                .orElseThrow(() -> new EntityNotFoundException(GlobalErrorCode.AUTHOR_NOT_FOUND));
     }
 
     /**
-     * 저자 상세 정보를 수정합니다. - 저자의 이메일이 변경되었을 경우, 이메일의 고유성 검증 로직을 실행합니다.
+     * 저자와 저자의 도서 목록을 함께 조회합니다. - 저자와 도서를 fetch join으로 한 번의 쿼리로 조회하므로, 도서 수와 관계없이 쿼리 수가 일정합니다.
      *
      * @param id
-     * @param request
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public AuthorWithBooksResponseDto findAuthorWithBooksById(Long id) {
+        Author author = authorRepository.findWithBooksById(id)
+                .orElseThrow(() -> new EntityNotFoundException(GlobalErrorCode.AUTHOR_NOT_FOUND));
+        return AuthorWithBooksResponseDto.from(author);
+    }
+
+    /**
+     * 저자 목록과 각 저자의 도서 목록을 커서 기반으로 조회합니다. - 도서 목록은 배치 페치(@BatchSize)로 페이지 내 저자들의 도서를 IN 쿼리로 한 번에 조회하므로, 저자 조회 1회와 도서 조회 1회로
+     * 처리됩니다. - 다음 페이지 확인용으로 더 조회한 저자는 변환하지 않으므로, 해당 저자의 도서는 조회하지 않습니다.
+     *
+     * @param cursor
+     * @param limit
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<AuthorWithBooksResponseDto> findAllAuthorWithBooks(String cursor, int limit) {
+        long afterId = CursorCodec.decodeId(cursor);
+        int size = CursorCodec.normalizeLimit(limit);
+        List<Author> fetched = authorRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size + 1));
+        boolean hasNext = fetched.size() > size;
+        List<AuthorWithBooksResponseDto> authors = fetched.stream()
+                .limit(size)
+                .map(AuthorWithBooksResponseDto::from)
+                .toList();
+        return CursorResponse.of(authors, hasNext, author -> CursorCodec.encodeId(author.getId()));
+    }
+
+    /**
+     * 저자의 현재 버전을 조회합니다. - 엔티티를 로딩하지 않고 버전 컬럼만 조회하므로, 부분 수정 시 기대하는 버전과 비교하는 데 사용합니다.
+     *
+     * @param id
+     * @return
      */
+    @Transactional(readOnly = true)
+    public Long findAuthorVersion(Long id) {
+        return authorRepository.findVersionById(id)
+                .orElseThrow(() -> new EntityNotFoundException(GlobalErrorCode.AUTHOR_NOT_FOUND));
+    }
+
     public void updateAuthorDetails(Long id, AuthorRequestDto request) {
+        updateAuthorDetails(id, request, null);
+    }
+
+    /**
+     * 저자 상세 정보를 수정합니다. - 저자의 이메일이 변경되었을 경우, 이메일의 고유성 검증 로직을 실행합니다. - 기대하는 버전이 주어졌다면 현재 버전과 일치하는 경우에만 수정합니다. - 변경
+     * 이벤트에 증가된 버전을 담기 위해 이벤트 발행 전에 변경 내용을 반영합니다.
+     *
+     * @param id
+     * @param request
+     * @param expectedVersion
+     */
+    public void updateAuthorDetails(Long id, AuthorRequestDto request, Long expectedVersion) {
         Author author = findById(id);
 
+        if (expectedVersion != null && !expectedVersion.equals(author.getVersion())) {
+            throw new PreconditionFailedException(GlobalErrorCode.VERSION_MISMATCH);
+        }
+
         if (!author.getEmail().equals(request.getEmail())) {
             validateEmail(request.getEmail());
         }
 
         author.update(request.getName(), request.getEmail());
+        authorRepository.flush();
+        eventPublisher.publishEvent(AuthorChangedEvent.updated(id, author.getVersion()));
     }
 
     /**
-     * 저자를 삭제합니다. - 저자와 도서 간의 연관관계에 따른 도서 관리 정책에 의해 저자가 삭제될 경우 연관된 도서도 모두 삭제됩니다.
+     * 저자 정보 중 요청에 포함된 항목만 수정합니다. - 저자 엔티티를 로딩하지 않고, 변경된 컬럼과 버전만 하나의 UPDATE 문으로 수정합니다. - 이메일이 변경되는 경우에만 이메일의 고유성 검증 로직을
+     * 실행합니다. - 기대하는 버전이 주어졌다면 현재 버전과 일치하는 경우에만 수정합니다. - 변경 이벤트에는 수정 이후의 버전을 조회하여 담습니다.
+     *
+     * @param id
+     * @param request
+     * @param expectedVersion
+     */
+    public void patchAuthorDetails(Long id, AuthorPatchRequestDto request, Long expectedVersion) {
+        if (!request.hasChanges()) {
+            validateVersion(findAuthorVersion(id), expectedVersion);
+            return;
+        }
+
+        if (request.getEmail() != null) {
+            String currentEmail = authorRepository.findEmailById(id)
+                    .orElseThrow(() -> new EntityNotFoundException(GlobalErrorCode.AUTHOR_NOT_FOUND));
+            if (!currentEmail.equals(request.getEmail())) {
+                validateEmail(request.getEmail());
+            }
+        }
+
+        if (authorRepository.patch(id, request, expectedVersion) == 0) {
+            findAuthorVersion(id);
+            throw new PreconditionFailedException(GlobalErrorCode.VERSION_MISMATCH);
+        }
+        eventPublisher.publishEvent(AuthorChangedEvent.updated(id, findAuthorVersion(id)));
+    }
+
+    /**
+     * 저자를 삭제합니다. - 저자와 도서 간의 연관관계에 따른 도서 관리 정책에 의해 저자가 삭제될 경우 연관된 도서도 모두 삭제됩니다. - 도서를 엔티티 단위로 로딩해 하나씩 삭제하지 않고, 저자 id 기준의 DELETE
+     * 문 한 번으로 삭제한 뒤 저자를 삭제합니다. - 함께 삭제된 도서의 id를 이벤트로 발행하여 도서 캐시 등도 정리합니다.
      *
      * @param id
      */
     public void deleteAuthor(Long id) {
-        authorRepository.deleteById(id);
+        List<Long> bookIds = bookRepository.findIdsByAuthorId(id);
+        if (!bookIds.isEmpty()) {
+            bookRepository.deleteAllByAuthorIdInBulk(id);
+        }
+        if (authorRepository.deleteByIdInBulk(id) > 0) {
+            eventPublisher.publishEvent(AuthorChangedEvent.deleted(id, bookIds));
+        }
+    }
+
+    private void validateVersion(Long currentVersion, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException(GlobalErrorCode.VERSION_MISMATCH);
+        }
     }
 
     private Author findById(Long id) {
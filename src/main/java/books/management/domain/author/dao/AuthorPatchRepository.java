@@ -0,0 +1,14 @@
+package books.management.domain.author.dao;
+
+import books.management.domain.author.dto.request.AuthorPatchRequestDto;
+
+public interface AuthorPatchRepository {
+
+    /**
+     * 요청에 포함된 컬럼과 버전만 하나의 UPDATE 문으로 수정합니다. - 엔티티를 로딩하지 않으므로 영속성 컨텍스트와 캐시는 호출하는 쪽에서 정리해야 합니다. - 기대하는 버전이 주어졌다면 현재 버전과
+     * 일치하는 경우에만 수정합니다.
+     *
+     * @return 수정된 행의 수
+     */
+    public int patch(Long id, AuthorPatchRequestDto request, Long expectedVersion);
+}
@@ -0,0 +1,38 @@
+package books.management.domain.author.dao;
+
+import books.management.domain.author.domain.Author;
+import books.management.domain.author.dto.request.AuthorPatchRequestDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class AuthorPatchRepositoryImpl implements AuthorPatchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int patch(Long id, AuthorPatchRequestDto request, Long expectedVersion) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Author> update = builder.createCriteriaUpdate(Author.class);
+        Root<Author> author = update.from(Author.class);
+
+        if (request.getName() != null) {
+            update.set(author.<String>get("name"), request.getName());
+        }
+        if (request.getEmail() != null) {
+            update.set(author.<String>get("email"), request.getEmail());
+        }
+        update.set(author.<Long>get("version"), builder.sum(author.<Long>get("version"), 1L));
+
+        Predicate condition = builder.equal(author.get("id"), id);
+        if (expectedVersion != null) {
+            condition = builder.and(condition, builder.equal(author.get("version"), expectedVersion));
+        }
+        update.where(condition);
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
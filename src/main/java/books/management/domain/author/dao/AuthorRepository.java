@@ -1,9 +1,77 @@
 package books.management.domain.author.dao;
 
 import books.management.domain.author.domain.Author;
+import books.management.domain.author.dto.projection.AuthorView;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface AuthorRepository extends JpaRepository<Author, Long> {
+public interface AuthorRepository extends JpaRepository<Author, Long>, AuthorPatchRepository {
 
     public boolean existsByEmail(String email);
+
+    /**
+     * 주어진 이메일 중 이미 저장된 이메일만 조회합니다. - 여러 저자를 한 번에 생성할 때 한 번의 IN 쿼리로 고유성을 검증하기 위해 사용합니다.
+     */
+    @Query("select a.email from Author a where a.email in :emails")
+    public Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * 저자의 버전 값만 조회합니다. - 부분 수정 시 엔티티를 로딩하지 않고 기대하는 버전과 비교하기 위해 사용합니다.
+     */
+    @Query("select a.version from Author a where a.id = :id")
+    public Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * 저자의 이메일 값만 조회합니다. - 부분 수정 시 이메일이 변경되는지 확인하기 위해 사용합니다.
+     */
+    @Query("select a.email from Author a where a.id = :id")
+    public Optional<String> findEmailById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Author a where a.id = :id")
+    public int deleteByIdInBulk(@Param("id") Long id);
+
+    /**
+     * PK 인덱스를 이용해 id가 주어진 값보다 큰 저자를 순서대로 조회합니다. - OFFSET을 사용하지 않으므로 페이지의 깊이와 관계없이 일정한 비용으로 조회됩니다.
+     */
+    public List<Author> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * id가 주어진 값보다 큰 저자를 응답에 필요한 컬럼만 순서대로 조회합니다. - 엔티티를 관리하지 않으므로 스냅샷 복사 비용이 없습니다.
+     */
+    @Query("select new books.management.domain.author.dto.projection.AuthorView(a.id, a.name, a.email, a.version) "
+            + "from Author a where a.id > :id order by a.id")
+    public List<AuthorView> findViewsByIdGreaterThan(@Param("id") Long id, Limit limit);
+
+    /**
+     * 저자 한 건을 응답에 필요한 컬럼만 조회합니다.
+     */
+    @Query("select new books.management.domain.author.dto.projection.AuthorView(a.id, a.name, a.email, a.version) "
+            + "from Author a where a.id = :id")
+    public Optional<AuthorView> findViewById(@Param("id") Long id);
+
+    /**
+     * 저자와 저자의 도서 목록을 fetch join으로 한 번에 조회합니다.
+     */
+    @EntityGraph(attributePaths = "books")
+    public Optional<Author> findWithBooksById(Long id);
+
+    /**
+     * 모든 저자의 id를 스트림으로 조회합니다. - 도서 통계를 생성할 때 도서가 없는 저자도 포함하기 위해 사용합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select a.id from Author a")
+    public Stream<Long> streamAllIds();
 }
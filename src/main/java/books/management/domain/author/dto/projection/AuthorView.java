@@ -0,0 +1,12 @@
+package books.management.domain.author.dto.projection;
+
+/**
+ * 저자 조회 응답에 필요한 컬럼만 담는 프로젝션입니다. - JPQL 생성자 표현식으로 조회하므로 영속성 컨텍스트에 엔티티가 등록되지 않습니다.
+ */
+public record AuthorView(
+        Long id,
+        String name,
+        String email,
+        Long version) {
+
+}
@@ -0,0 +1,33 @@
+package books.management.domain.author.dto.request;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저자 부분 수정 요청입니다. - 입력하지 않은(null) 항목은 수정하지 않습니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuthorPatchRequestDto {
+
+    @Pattern(regexp = "^(?!\\s*$).+", message = "이름은 빈 값일 수 없습니다.")
+    private String name;
+
+    @Pattern(regexp = "^(?!\\s*$).+", message = "이메일은 빈 값일 수 없습니다.")
+    @Email(message = "이메일 형식이 올바르지 않습니다.")
+    private String email;
+
+    @Builder
+    private AuthorPatchRequestDto(String name, String email) {
+        this.name = name;
+        this.email = email;
+    }
+
+    public boolean hasChanges() {
+        return name != null || email != null;
+    }
+}
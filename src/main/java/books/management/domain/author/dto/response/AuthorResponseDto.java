@@ -1,21 +1,28 @@
 package books.management.domain.author.dto.response;
 
 import books.management.domain.author.domain.Author;
+import books.management.domain.author.dto.projection.AuthorView;
+import books.management.global.common.cache.Versioned;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
-public class AuthorResponseDto {
+public class AuthorResponseDto implements Versioned {
 
     private Long id;
     private String name;
     private String email;
 
+    @JsonIgnore
+    private Long version;
+
     @Builder
-    private AuthorResponseDto(Long id, String name, String email) {
+    private AuthorResponseDto(Long id, String name, String email, Long version) {
         this.id = id;
         this.name = name;
         this.email = email;
+        this.version = version;
     }
 
     public static AuthorResponseDto from(Author author) {
@@ -23,6 +30,16 @@ public class AuthorResponseDto {
                 .id(author.getId())
                 .name(author.getName())
                 .email(author.getEmail())
+                .version(author.getVersion())
+                .build();
+    }
+
+    public static AuthorResponseDto from(AuthorView author) {
+        return AuthorResponseDto.builder()
+                .id(author.id())
+                .name(author.name())
+                .email(author.email())
+                .version(author.version())
                 .build();
     }
 
@@ -0,0 +1,37 @@
+package books.management.domain.author.dto.response;
+
+import books.management.domain.author.domain.Author;
+import books.management.domain.book.dto.response.BookResponseDto;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class AuthorWithBooksResponseDto {
+
+    private Long id;
+    private String name;
+    private String email;
+    private List<BookResponseDto> books;
+
+    @Builder
+    private AuthorWithBooksResponseDto(Long id, String name, String email, List<BookResponseDto> books) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.books = books;
+    }
+
+    public static AuthorWithBooksResponseDto from(Author author) {
+        return AuthorWithBooksResponseDto.builder()
+                .id(author.getId())
+                .name(author.getName())
+                .email(author.getEmail())
+                .books(author.getBooks()
+                        .stream()
+                        .map(BookResponseDto::from)
+                        .toList())
+                .build();
+    }
+
+}
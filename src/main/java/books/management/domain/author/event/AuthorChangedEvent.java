@@ -0,0 +1,36 @@
+package books.management.domain.author.event;
+
+import books.management.global.common.event.ChangeType;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 저자가 생성, 수정, 삭제되었음을 알리는 이벤트입니다. - 수정 이벤트는 수정 이후의 버전을 포함합니다. - 저자 삭제 시 함께 삭제된 도서의 id 목록을 포함합니다.
+ */
+@Getter
+public class AuthorChangedEvent {
+
+    private final ChangeType type;
+    private final Long authorId;
+    private final Long version;
+    private final List<Long> deletedBookIds;
+
+    private AuthorChangedEvent(ChangeType type, Long authorId, Long version, List<Long> deletedBookIds) {
+        this.type = type;
+        this.authorId = authorId;
+        this.version = version;
+        this.deletedBookIds = deletedBookIds;
+    }
+
+    public static AuthorChangedEvent created(Long authorId) {
+        return new AuthorChangedEvent(ChangeType.CREATED, authorId, null, List.of());
+    }
+
+    public static AuthorChangedEvent updated(Long authorId, Long version) {
+        return new AuthorChangedEvent(ChangeType.UPDATED, authorId, version, List.of());
+    }
+
+    public static AuthorChangedEvent deleted(Long authorId, List<Long> deletedBookIds) {
+        return new AuthorChangedEvent(ChangeType.DELETED, authorId, null, deletedBookIds);
+    }
+}
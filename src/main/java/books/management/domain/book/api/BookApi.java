@@ -1,22 +1,48 @@
 package books.management.domain.book.api;
 
+import books.management.domain.book.application.BookExportService;
+import books.management.domain.book.application.BookImportService;
+import books.management.domain.book.application.BookSearchService;
 import books.management.domain.book.application.BookService;
+import books.management.domain.book.dto.request.BookPatchRequestDto;
 import books.management.domain.book.dto.request.BookRequestDto;
+import books.management.domain.book.dto.response.BookImportResponseDto;
 import books.management.domain.book.dto.response.BookResponseDto;
+import books.management.domain.book.dto.response.BookTitleResponseDto;
+import books.management.domain.ingest.application.WriteBehindQueue;
+import books.management.domain.ingest.dto.response.WriteTicketResponseDto;
+import books.management.global.common.idempotency.IdempotencyStore;
+import books.management.global.common.pagination.CursorCodec;
 import books.management.global.common.response.ApiResponse;
+import books.management.global.common.response.CursorResponse;
 import books.management.global.common.response.ResponseCode;
+import books.management.global.common.snapshot.ListSnapshotCache;
+import books.management.global.common.web.EntityTags;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/books")
@@ -24,6 +50,12 @@ import org.springframework.web.bind.annotation.RestController;
 public class BookApi {
 
     private final BookService bookService;
+    private final BookExportService bookExportService;
+    private final BookImportService bookImportService;
+    private final BookSearchService bookSearchService;
+    private final WriteBehindQueue writeBehindQueue;
+    private final IdempotencyStore idempotencyStore;
+    private final ListSnapshotCache listSnapshotCache;
 
     @PostMapping
     @Operation(summary = "도서 생성 API",
@@ -33,39 +65,160 @@ public class BookApi {
                     - 제목, ISBN, 출판일, 저자 ID는 필수 입력값입니다.
                     - ISBN은 중복일 수 없으며, ISBN-10 규칙을 따라야 합니다.
                         - 10자리 숫자로 구성되며, 0으로 끝나야 합니다.
-                        - 앞 2자리 숫자는 10~90 사이의 숫자여야 합니다.""")
-    public ApiResponse<Void> create(@RequestBody @Valid BookRequestDto request) {
-        bookService.create(request);
-        return ApiResponse.of(ResponseCode.CREATED);
+                        - 앞 2자리 숫자는 10~90 사이의 숫자여야 합니다.
+                    - 비동기 등록 모드(books.write-behind.enabled=true)에서는 요청을 대기열에 담고 즉시 ticket_id를 반환합니다.
+                        - 처리 결과는 GET /writes/{ticket_id} 로 조회합니다.
+                        - 대기열이 가득 차면 429 응답을 반환합니다.
+                    - Idempotency-Key 헤더를 함께 보내면, 같은 키로 재시도한 요청에는 처음 요청의 결과를 그대로 반환합니다.
+                        - 같은 키의 요청이 동시에 들어오면 한 번만 처리됩니다.
+                        - 같은 키로 다른 내용의 요청을 보내면 422 응답을 반환합니다.""")
+    public ApiResponse<WriteTicketResponseDto> create(
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody @Valid BookRequestDto request) {
+        return idempotencyStore.execute("books", idempotencyKey, request, () -> {
+            if (writeBehindQueue.isEnabled()) {
+                return ApiResponse.of(ResponseCode.ACCEPTED, writeBehindQueue.submit(request));
+            }
+            bookService.create(request);
+            return ApiResponse.<WriteTicketResponseDto>of(ResponseCode.CREATED);
+        });
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "도서 대량 등록 API (JSON)",
+            description = """
+                    JSON 배열 형식의 도서 목록을 한 번에 등록하는 API 입니다.
+                    - 배열의 각 원소는 도서 생성 API의 요청 본문과 같은 형식입니다.
+                    - 도서는 청크 단위로 저장되며, 실패한 행만 행 번호와 사유를 함께 반환합니다.""")
+    public ApiResponse<BookImportResponseDto> importJson(InputStream body) throws IOException {
+        return ApiResponse.of(ResponseCode.IMPORTED, bookImportService.importJson(body));
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    @Operation(summary = "도서 대량 등록 API (CSV)",
+            description = """
+                    CSV 형식의 도서 목록을 한 번에 등록하는 API 입니다.
+                    - 첫 줄은 title,description,isbn,publication_date,author_id 헤더여야 합니다.
+                    - 도서는 청크 단위로 저장되며, 실패한 행만 행 번호와 사유를 함께 반환합니다.""")
+    public ApiResponse<BookImportResponseDto> importCsv(InputStream body) throws IOException {
+        return ApiResponse.of(ResponseCode.IMPORTED, bookImportService.importCsv(body));
     }
 
     @GetMapping
     @Operation(summary = "도서 목록 조회 API",
             description = """
-                    저장된 모든 도서 목록을 조회하는 API 입니다.""")
-    public ApiResponse<List<BookResponseDto>> findAll() {
-        return ApiResponse.of(ResponseCode.GET, bookService.findAllBooks());
+                    저장된 도서 목록을 커서 기반으로 조회하는 API 입니다.
+                    - after_id에는 이전 응답의 next_cursor 값을 입력합니다. 입력하지 않으면 첫 페이지를 조회합니다.
+                    - limit은 한 번에 조회할 개수이며, 기본값은 20, 최대값은 100입니다.
+                    - published_from, published_to, author_id, sort 중 하나라도 입력하면 출간일 순서로 조회하며, 출간일이 없는 도서는 제외됩니다.
+                    - sort는 publication_date,asc 또는 publication_date,desc 형식이며, 기본값은 publication_date,asc 입니다.
+                    - Accept 헤더에 application/x-jackson-smile 또는 application/cbor 를 입력하면 바이너리 형식으로 응답합니다.
+                    - 조건 없이 조회한 JSON 응답은 다음 변경 전까지 직렬화, 압축된 결과를 재사용하며, Accept-Encoding 헤더에 gzip을 입력하면 압축된 응답을 반환합니다.""")
+    public ApiResponse<CursorResponse<BookResponseDto>> findAll(
+            @RequestParam(name = "after_id", required = false) String afterId,
+            @RequestParam(name = "limit", defaultValue = "20") int limit,
+            @RequestParam(name = "published_from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate publishedFrom,
+            @RequestParam(name = "published_to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate publishedTo,
+            @RequestParam(name = "author_id", required = false) Long authorId,
+            @RequestParam(name = "sort", required = false) String sort,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        if (publishedFrom == null && publishedTo == null && authorId == null && sort == null) {
+            if (listSnapshotCache.serve("books", afterId + "," + CursorCodec.normalizeLimit(limit), request, response,
+                    () -> ApiResponse.of(ResponseCode.GET, bookService.findAllBooks(afterId, limit)))) {
+                return null;
+            }
+            return ApiResponse.of(ResponseCode.GET, bookService.findAllBooks(afterId, limit));
+        }
+        return ApiResponse.of(ResponseCode.GET,
+                bookService.findBooksByPublicationDate(publishedFrom, publishedTo, authorId, sort, afterId, limit));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "도서 검색 API",
+            description = """
+                    도서의 제목과 설명을 대상으로 검색하는 API 입니다.
+                    - 검색어의 모든 단어를 포함하는 도서를 관련도가 높은 순서로 반환합니다.
+                    - 제목에 포함된 단어는 설명에 포함된 단어보다 높은 가중치를 가집니다.
+                    - limit은 최대 결과 수이며, 기본값은 10, 최대값은 100입니다.""")
+    public ApiResponse<List<BookResponseDto>> search(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        return ApiResponse.of(ResponseCode.GET, bookSearchService.search(query, limit));
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(summary = "도서 제목 자동완성 API",
+            description = """
+                    입력한 접두사로 시작하는 도서 제목을 반환하는 API 입니다.
+                    - 대소문자와 연속된 공백은 구분하지 않으며, 결과는 제목 순서로 정렬됩니다.
+                    - limit은 최대 결과 수이며, 기본값은 10, 최대값은 100입니다.""")
+    public ApiResponse<List<BookTitleResponseDto>> autocomplete(
+            @RequestParam(name = "prefix") String prefix,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        return ApiResponse.of(ResponseCode.GET, bookSearchService.autocomplete(prefix, limit));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "도서 전체 내보내기 API",
+            description = """
+                    저장된 모든 도서를 NDJSON(한 줄에 하나의 JSON) 형식으로 내보내는 API 입니다.
+                    - 응답은 스트리밍 방식으로 전송되므로, 데이터 양과 관계없이 일정한 메모리로 처리됩니다.""")
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = bookExportService::exportBooks;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "도서 상세 조회 API",
             description = """
-                    해당 id를 가진 도서의 상세 정보를 조회하는 API 입니다.""")
-    public ApiResponse<BookResponseDto> findById(@PathVariable Long id) {
-        return ApiResponse.of(ResponseCode.GET, bookService.findBookById(id));
+                    해당 id를 가진 도서의 상세 정보를 조회하는 API 입니다.
+                    - 응답의 ETag 헤더에는 도서의 버전이 포함됩니다.
+                    - If-None-Match 헤더의 값이 현재 버전과 같다면 본문 없이 304 Not Modified를 반환합니다.""")
+    public ResponseEntity<ApiResponse<BookResponseDto>> findById(@PathVariable Long id) {
+        BookResponseDto response = bookService.findBookById(id);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(response.getVersion()))
+                .body(ApiResponse.of(ResponseCode.GET, response));
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "도서 정보 수정 API",
             description = """
                     해당 id를 가진 도서의 정보를 수정하는 API 입니다.
+                    - If-Match 헤더에 ETag 값을 입력하면, 현재 버전과 일치하는 경우에만 수정합니다.
                     - 제목, 설명, ISBN, 출판일, 저자 ID를 입력 받아 수정합니다.
                     - 제목, ISBN, 출판일, 저자 ID는 필수 입력값입니다.
                     - ISBN은 중복일 수 없으며, ISBN-10 규칙을 따라야 합니다.
                         - 10자리 숫자로 구성되며, 0으로 끝나야 합니다.
                         - 앞 2자리 숫자는 10~90 사이의 숫자여야 합니다.""")
-    public ApiResponse<Void> update(@PathVariable Long id, @RequestBody @Valid BookRequestDto request) {
-        bookService.updateBookDetails(id, request);
+    public ApiResponse<Void> update(
+            @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Valid BookRequestDto request) {
+        bookService.updateBookDetails(id, request, EntityTags.parseIfMatch(ifMatch));
+        return ApiResponse.of(ResponseCode.UPDATED);
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(summary = "도서 정보 부분 수정 API",
+            description = """
+                    해당 id를 가진 도서의 정보 중 입력한 항목만 수정하는 API 입니다.
+                    - If-Match 헤더에 ETag 값을 입력하면, 현재 버전과 일치하는 경우에만 수정합니다.
+                    - 제목, 설명, ISBN, 출판일, 저자 ID 중 수정할 항목만 입력합니다. 입력하지 않은 항목은 수정되지 않습니다.
+                    - ISBN이 변경되는 경우, ISBN은 중복일 수 없습니다.
+                    - ISBN은 ISBN-10 규칙을 따라야 합니다.
+                        - 10자리 숫자로 구성되며, 0으로 끝나야 합니다.
+                        - 앞 2자리 숫자는 10~90 사이의 숫자여야 합니다.""")
+    public ApiResponse<Void> patch(
+            @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Valid BookPatchRequestDto request) {
+        bookService.patchBookDetails(id, request, EntityTags.parseIfMatch(ifMatch));
         return ApiResponse.of(ResponseCode.UPDATED);
     }
 
@@ -0,0 +1,44 @@
+package books.management.domain.book.application;
+
+import books.management.domain.author.event.AuthorChangedEvent;
+import books.management.domain.book.event.BookChangedEvent;
+import books.management.global.common.cache.VersionedCaffeineCache;
+import books.management.global.common.event.ChangeType;
+import books.management.global.common.snapshot.ListSnapshotCache;
+import books.management.global.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도서 변경 이벤트를 구독하여 트랜잭션 커밋 이후 도서 캐시를 무효화합니다. - 무효화와 동시에 진행 중이던 조회(replica 조회 포함)가 커밋 이전의 값을 다시 적재할 수 있으므로, 수정된
+ * 버전을 하한으로 기록하여 그보다 낮은 버전은 적재되지 않도록 합니다. 삭제된 도서는 다시 적재되지 않습니다. - 저자 삭제로 함께 삭제된 도서도 무효화합니다. - 생성을 포함한 모든 변경은 목록 조회
+ * 스냅샷도 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookCacheEvictor {
+
+    private final CacheManager cacheManager;
+    private final ListSnapshotCache listSnapshotCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        listSnapshotCache.invalidateAll();
+        if (event.getType() == ChangeType.UPDATED) {
+            evict(event.getBookId(), event.getBook().getVersion());
+        } else if (event.getType() == ChangeType.DELETED) {
+            evict(event.getBookId(), Long.MAX_VALUE);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        event.getDeletedBookIds().forEach(bookId -> evict(bookId, Long.MAX_VALUE));
+    }
+
+    private void evict(Long bookId, long version) {
+        VersionedCaffeineCache.evict(cacheManager.getCache(CacheConfig.BOOKS), bookId, version);
+    }
+}
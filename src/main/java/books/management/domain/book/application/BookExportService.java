@@ -0,0 +1,62 @@
+package books.management.domain.book.application;
+
+import books.management.domain.book.dao.BookRepository;
+import books.management.domain.book.domain.Book;
+import books.management.domain.book.dto.response.BookResponseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class BookExportService {
+
+    private static final int CLEAR_INTERVAL = 1000;
+
+    private final BookRepository bookRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 모든 도서를 NDJSON(한 줄에 하나의 JSON) 형식으로 출력 스트림에 기록합니다. - 도서를 스트림으로 조회하면서 한 건씩 직렬화하고, 영속성 컨텍스트에서 분리하기 때문에 데이터 양과 관계없이 메모리 사용량이
+     * 일정하게 유지됩니다.
+     *
+     * @param outputStream
+     * @throws IOException
+     */
+    @Transactional(readOnly = true)
+    public void exportBooks(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(BookResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (Stream<Book> books = bookRepository.streamAll();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<Book> iterator = books.iterator();
+            long count = 0;
+            while (iterator.hasNext()) {
+                Book book = iterator.next();
+                writer.writeValue(generator, BookResponseDto.from(book));
+                generator.writeRaw('\n');
+                entityManager.detach(book);
+
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+    }
+}
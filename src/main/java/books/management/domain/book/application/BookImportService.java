@@ -0,0 +1,347 @@
+package books.management.domain.book.application;
+
+import books.management.domain.author.dao.AuthorRepository;
+import books.management.domain.author.domain.Author;
+import books.management.domain.book.dao.BookRepository;
+import books.management.domain.book.domain.Book;
+import books.management.domain.book.dto.request.BookRequestDto;
+import books.management.domain.book.dto.response.BookImportResponseDto;
+import books.management.domain.book.dto.response.BookImportResponseDto.RowError;
+import books.management.domain.book.dto.response.BookResponseDto;
+import books.management.domain.book.event.BookChangedEvent;
+import books.management.global.error.exception.InvalidValueException;
+import books.management.global.error.response.GlobalErrorCode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+public class BookImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String CSV_HEADER = "title,description,isbn,publication_date,author_id";
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final IsbnFilter isbnFilter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * JSON 배열 형식의 도서 목록을 대량 등록합니다. - 요청 본문 전체를 메모리에 올리지 않고 원소 단위로 읽어 청크 단위로 저장합니다.
+     *
+     * @param inputStream
+     * @return
+     * @throws IOException
+     */
+    public BookImportResponseDto importJson(InputStream inputStream) throws IOException {
+        ImportResult result = new ImportResult();
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (JsonParser parser = objectMapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidValueException(GlobalErrorCode.INVALID_IMPORT_FORMAT);
+            }
+
+            int rowNumber = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new InvalidValueException(GlobalErrorCode.INVALID_IMPORT_FORMAT);
+                }
+                JsonNode node = objectMapper.readTree(parser);
+                chunk.add(toRow(++rowNumber, node));
+                flushIfFull(chunk, result);
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidValueException(GlobalErrorCode.INVALID_IMPORT_FORMAT);
+        }
+
+        importChunk(chunk, result);
+        return result.toResponse();
+    }
+
+    /**
+     * CSV 형식의 도서 목록을 대량 등록합니다. - 첫 줄은 반드시 title,description,isbn,publication_date,author_id 헤더여야 합니다. - 한 줄씩 읽어 청크 단위로
+     * 저장합니다.
+     *
+     * @param inputStream
+     * @return
+     * @throws IOException
+     */
+    public BookImportResponseDto importCsv(InputStream inputStream) throws IOException {
+        ImportResult result = new ImportResult();
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        if (header == null || !CSV_HEADER.equals(header.replace("\uFEFF", "").trim())) {
+            throw new InvalidValueException(GlobalErrorCode.INVALID_IMPORT_FORMAT);
+        }
+
+        int rowNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            chunk.add(toRow(++rowNumber, line));
+            flushIfFull(chunk, result);
+        }
+
+        importChunk(chunk, result);
+        return result.toResponse();
+    }
+
+    /**
+     * 이미 역직렬화된 도서 요청 목록을 하나의 청크로 저장합니다. - 응답의 행 번호는 목록의 순서(1부터 시작)를 의미합니다.
+     *
+     * @param requests
+     * @return
+     */
+    public BookImportResponseDto importRequests(List<BookRequestDto> requests) {
+        ImportResult result = new ImportResult();
+        List<ImportRow> chunk = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            chunk.add(ImportRow.of(i + 1, requests.get(i)));
+        }
+        importChunk(chunk, result);
+        return result.toResponse();
+    }
+
+    private void flushIfFull(List<ImportRow> chunk, ImportResult result) {
+        if (chunk.size() >= CHUNK_SIZE) {
+            importChunk(chunk, result);
+            chunk.clear();
+        }
+    }
+
+    /**
+     * 하나의 청크를 하나의 트랜잭션으로 저장합니다. - 저자 존재 여부와 ISBN 중복 여부는 청크 전체에 대해 각각 한 번의 쿼리로 확인합니다.
+     *
+     * @param rows
+     * @param result
+     */
+    private void importChunk(List<ImportRow> rows, ImportResult result) {
+        List<ImportRow> candidates = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error != null) {
+                result.fail(row, error);
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (!candidates.isEmpty()) {
+            saveRows(candidates, result);
+        }
+    }
+
+    /**
+     * 행 목록을 하나의 트랜잭션으로 저장합니다. - 저장 중 오류(동시에 등록된 ISBN과의 충돌 등)가 발생하면 목록을 절반으로 나누어 각각의 트랜잭션으로 다시 저장하므로, 오류의 원인이 된 행만 실패로
+     * 처리됩니다. - flush 시점의 오류는 예외 변환 없이 PersistenceException으로 전달되므로 함께 처리합니다.
+     *
+     * @param rows
+     * @param result
+     */
+    private void saveRows(List<ImportRow> rows, ImportResult result) {
+        Map<ImportRow, String> rejected = new LinkedHashMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveChunk(rows, rejected));
+        } catch (DataAccessException | PersistenceException e) {
+            if (rows.size() == 1) {
+                result.fail(rows.get(0), IsbnConstraint.isViolatedBy(e)
+                        ? GlobalErrorCode.BOOK_ISBN_DUPLICATION.getMessage()
+                        : GlobalErrorCode.BOOK_IMPORT_FAILED.getMessage());
+                return;
+            }
+            int middle = rows.size() / 2;
+            saveRows(rows.subList(0, middle), result);
+            saveRows(rows.subList(middle, rows.size()), result);
+            return;
+        }
+        result.succeed(rows.size() - rejected.size());
+        rejected.forEach(result::fail);
+    }
+
+    private void saveChunk(List<ImportRow> candidates, Map<ImportRow, String> rejected) {
+        Set<Long> authorIds = candidates.stream()
+                .map(row -> row.request().getAuthorId())
+                .collect(Collectors.toSet());
+        Map<Long, Author> authors = authorRepository.findAllById(authorIds)
+                .stream()
+                .collect(Collectors.toMap(Author::getId, Function.identity()));
+
+        List<String> isbns = candidates.stream()
+                .map(row -> row.request().getIsbn())
+                .toList();
+        Set<String> reservedIsbns = new HashSet<>(bookRepository.findExistingIsbns(isbns));
+
+        List<Book> books = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            BookRequestDto request = row.request();
+            Author author = authors.get(request.getAuthorId());
+            if (author == null) {
+                rejected.put(row, GlobalErrorCode.AUTHOR_NOT_FOUND.getMessage());
+                continue;
+            }
+            if (!reservedIsbns.add(request.getIsbn())) {
+                rejected.put(row, GlobalErrorCode.BOOK_ISBN_DUPLICATION.getMessage());
+                continue;
+            }
+            books.add(Book.from(request, author));
+        }
+
+        bookRepository.saveAll(books);
+        for (Book book : books) {
+            isbnFilter.put(book.getIsbn());
+            eventPublisher.publishEvent(BookChangedEvent.created(BookResponseDto.from(book)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private String validate(BookRequestDto request) {
+        Set<ConstraintViolation<BookRequestDto>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private ImportRow toRow(int rowNumber, JsonNode node) {
+        String isbn = node.path("isbn").asText(null);
+        try {
+            return ImportRow.of(rowNumber, objectMapper.treeToValue(node, BookRequestDto.class));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return ImportRow.failed(rowNumber, isbn, GlobalErrorCode.HTTP_MESSAGE_NOT_READABLE.getMessage());
+        }
+    }
+
+    private ImportRow toRow(int rowNumber, String line) {
+        List<String> fields = splitCsvLine(line);
+        if (fields.size() != 5) {
+            return ImportRow.failed(rowNumber, null, GlobalErrorCode.HTTP_MESSAGE_NOT_READABLE.getMessage());
+        }
+        try {
+            BookRequestDto request = BookRequestDto.builder()
+                    .title(fields.get(0))
+                    .description(fields.get(1).isEmpty() ? null : fields.get(1))
+                    .isbn(fields.get(2))
+                    .publicationDate(fields.get(3).isBlank() ? null : LocalDate.parse(fields.get(3).trim()))
+                    .authorId(fields.get(4).isBlank() ? null : Long.parseLong(fields.get(4).trim()))
+                    .build();
+            return ImportRow.of(rowNumber, request);
+        } catch (DateTimeException | NumberFormatException e) {
+            return ImportRow.failed(rowNumber, fields.get(2), GlobalErrorCode.HTTP_MESSAGE_NOT_READABLE.getMessage());
+        }
+    }
+
+    /**
+     * RFC 4180 형식의 CSV 한 줄을 필드 단위로 분리합니다. - 큰따옴표로 감싼 필드 안의 쉼표와 이스케이프된 큰따옴표("")를 지원합니다.
+     *
+     * @param line
+     * @return
+     */
+    private List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private record ImportRow(int rowNumber, String isbn, BookRequestDto request, String error) {
+
+        static ImportRow of(int rowNumber, BookRequestDto request) {
+            return new ImportRow(rowNumber, request.getIsbn(), request, null);
+        }
+
+        static ImportRow failed(int rowNumber, String isbn, String error) {
+            return new ImportRow(rowNumber, isbn, null, error);
+        }
+    }
+
+    private static class ImportResult {
+
+        private int succeeded;
+        private final List<RowError> errors = new ArrayList<>();
+
+        void succeed(int count) {
+            succeeded += count;
+        }
+
+        void fail(ImportRow row, String reason) {
+            errors.add(RowError.builder()
+                    .row(row.rowNumber())
+                    .isbn(row.isbn())
+                    .reason(reason)
+                    .build());
+        }
+
+        BookImportResponseDto toResponse() {
+            errors.sort(Comparator.comparingInt(RowError::getRow));
+            return BookImportResponseDto.builder()
+                    .total(succeeded + errors.size())
+                    .succeeded(succeeded)
+                    .failed(errors.size())
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package books.management.domain.book.application;
+
+import books.management.domain.author.event.AuthorChangedEvent;
+import books.management.domain.book.dao.BookRepository;
+import books.management.domain.book.domain.Book;
+import books.management.domain.book.dto.response.BookResponseDto;
+import books.management.domain.book.event.BookChangedEvent;
+import books.management.global.common.event.ChangeType;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 도서 제목과 설명에 대한 인메모리 역색인입니다. - 단어(term)마다 해당 단어를 포함한 도서 id와 가중치를 저장하며, 검색 시 모든 검색어의 포스팅 목록에 공통으로 존재하는 도서만 찾아 점수순으로 정렬합니다. -
+ * 애플리케이션 시작 시 저장된 도서로 생성하며, 이후에는 도서 변경 이벤트로 점진적으로 갱신합니다.
+ */
+@Slf4j
+@Component
+public class BookSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int CLEAR_INTERVAL = 1000;
+
+    private final BookRepository bookRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+    private final Set<Long> changedDuringBuild = new HashSet<>();
+    private boolean building;
+
+    public BookSearchIndex(BookRepository bookRepository, EntityManager entityManager,
+                           PlatformTransactionManager transactionManager) {
+        this.bookRepository = bookRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 저장된 모든 도서를 스트림으로 조회하여 색인을 생성합니다. - 생성 중에 변경된 도서는 이벤트로 이미 반영되었으므로, 스트림에서 읽은 이전 값으로 덮어쓰지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        setBuilding(true);
+        try {
+            Long indexed = readOnlyTransaction.execute(status -> {
+                long count = 0;
+                try (Stream<Book> books = bookRepository.streamAll()) {
+                    for (Book book : (Iterable<Book>) books::iterator) {
+                        indexIfUnchanged(book.getId(), book.getTitle(), book.getDescription());
+                        entityManager.detach(book);
+                        if (++count % CLEAR_INTERVAL == 0) {
+                            entityManager.clear();
+                        }
+                    }
+                }
+                return count;
+            });
+            log.info("Book search index built: {} books, {} terms", indexed, termCount());
+        } finally {
+            setBuilding(false);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            markChanged(event.getBookId());
+            if (event.getType() == ChangeType.DELETED) {
+                remove(event.getBookId());
+            } else {
+                BookResponseDto book = event.getBook();
+                index(book.getId(), book.getTitle(), book.getDescription());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        if (event.getDeletedBookIds().isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Long bookId : event.getDeletedBookIds()) {
+                markChanged(bookId);
+                remove(bookId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 단어를 포함하는 도서를 점수가 높은 순서로 최대 limit개 반환합니다. - 가장 짧은 포스팅 목록을 기준으로 나머지 목록과 교집합을 구하므로, 비용은 전체 도서 수가 아닌 검색어의 포스팅 목록 크기에
+     * 비례합니다. - 점수는 단어별 가중치(제목 3, 설명 1)에 역문서빈도(idf)를 곱한 값의 합입니다.
+     *
+     * @param query
+     * @param limit
+     * @return
+     */
+    public List<Long> search(String query, int limit) {
+        Set<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Integer> postingList = postings.get(term);
+                if (postingList == null) {
+                    return List.of();
+                }
+                lists.add(postingList);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            double documentCount = documentTerms.size();
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) {
+                idf[i] = Math.log(1 + documentCount / lists.get(i).size());
+            }
+
+            PriorityQueue<ScoredBook> topK = new PriorityQueue<>(limit + 1,
+                    Comparator.comparingDouble(ScoredBook::score));
+            candidates:
+            for (Map.Entry<Long, Integer> entry : lists.get(0).entrySet()) {
+                double score = entry.getValue() * idf[0];
+                for (int i = 1; i < lists.size(); i++) {
+                    Integer weight = lists.get(i).get(entry.getKey());
+                    if (weight == null) {
+                        continue candidates;
+                    }
+                    score += weight * idf[i];
+                }
+                topK.offer(new ScoredBook(entry.getKey(), score));
+                if (topK.size() > limit) {
+                    topK.poll();
+                }
+            }
+
+            List<Long> result = new ArrayList<>(topK.size());
+            while (!topK.isEmpty()) {
+                result.add(topK.poll().bookId());
+            }
+            Collections.reverse(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 문자열을 소문자로 변환한 뒤 문자와 숫자가 아닌 문자를 기준으로 단어를 분리합니다. - 한 글자짜리 영문, 숫자 단어는 변별력이 낮으므로 제외합니다.
+     *
+     * @param text
+     * @return
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = normalized.substring(start, i);
+                if (token.length() > 1 || token.charAt(0) > 0x7F) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private void indexIfUnchanged(Long bookId, String title, String description) {
+        lock.writeLock().lock();
+        try {
+            if (!changedDuringBuild.contains(bookId)) {
+                index(bookId, title, description);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Long bookId, String title, String description) {
+        remove(bookId);
+
+        Map<String, Integer> weights = new HashMap<>();
+        tokenize(title).forEach(term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenize(description).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(bookId, weight));
+        documentTerms.put(bookId, weights.keySet());
+    }
+
+    private void remove(Long bookId) {
+        Set<String> terms = documentTerms.remove(bookId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> postingList = postings.get(term);
+            if (postingList != null) {
+                postingList.remove(bookId);
+                if (postingList.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private void markChanged(Long bookId) {
+        if (building) {
+            changedDuringBuild.add(bookId);
+        }
+    }
+
+    private void setBuilding(boolean building) {
+        lock.writeLock().lock();
+        try {
+            this.building = building;
+            changedDuringBuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record ScoredBook(Long bookId, double score) {
+    }
+}
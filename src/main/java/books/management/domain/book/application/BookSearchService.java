@@ -0,0 +1,60 @@
+package books.management.domain.book.application;
+
+import books.management.domain.book.dao.BookRepository;
+import books.management.domain.book.domain.Book;
+import books.management.domain.book.dto.response.BookResponseDto;
+import books.management.domain.book.dto.response.BookTitleResponseDto;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class BookSearchService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final BookSearchIndex bookSearchIndex;
+    private final BookTitleAutocomplete bookTitleAutocomplete;
+    private final BookRepository bookRepository;
+
+    /**
+     * 도서 제목과 설명을 대상으로 검색합니다. - 검색과 순위 계산은 인메모리 역색인에서 처리하고, 데이터베이스는 상위 결과의 id로 한 번만 조회합니다.
+     *
+     * @param query
+     * @param limit
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<BookResponseDto> search(String query, int limit) {
+        List<Long> rankedIds = bookSearchIndex.search(query, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Book> books = bookRepository.findAllById(rankedIds)
+                .stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return rankedIds.stream()
+                .map(books::get)
+                .filter(Objects::nonNull)
+                .map(BookResponseDto::from)
+                .toList();
+    }
+
+    /**
+     * 제목이 주어진 접두사로 시작하는 도서를 제목 순서대로 반환합니다. - 인메모리 제목 색인만 사용하므로 데이터베이스를 조회하지 않습니다.
+     *
+     * @param prefix
+     * @param limit
+     * @return
+     */
+    public List<BookTitleResponseDto> autocomplete(String prefix, int limit) {
+        return bookTitleAutocomplete.suggest(prefix, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+}
@@ -3,14 +3,31 @@ package books.management.domain.book.application;
 import books.management.domain.author.dao.AuthorRepository;
 import books.management.domain.author.domain.Author;
 import books.management.domain.book.dao.BookRepository;
+import books.management.domain.book.dao.BookSpecifications;
 import books.management.domain.book.domain.Book;
+import books.management.domain.book.dto.request.BookPatchRequestDto;
 import books.management.domain.book.dto.request.BookRequestDto;
 import books.management.domain.book.dto.response.BookResponseDto;
+import books.management.domain.book.event.BookChangedEvent;
+import books.management.global.common.pagination.CursorCodec;
+import books.management.global.common.pagination.DateIdCursor;
+import books.management.global.common.response.CursorResponse;
+import books.management.global.config.CacheConfig;
 import books.management.global.error.exception.EntityNotFoundException;
+import books.management.global.error.exception.InvalidValueException;
 import books.management.global.error.exception.NonUniqueValueException;
+import books.management.global.error.exception.PreconditionFailedException;
 import books.management.global.error.response.GlobalErrorCode;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,11 +36,16 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class BookService {
 
+    private static final String PUBLICATION_DATE_SORT_PROPERTY = "publication_date";
+
     private final AuthorRepository authorRepository;
     private final BookRepository bookRepository;
+    private final IsbnFilter isbnFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 새로운 도서를 생성합니다. - ISBN의 고유성을 유지하기 위해 가장 먼저 데이터베이스에 동일한 값이 존재하는지 확인하는 로직이 실행됩니다.
+     * 새로운 도서를 생성합니다. - ISBN의 고유성을 유지하기 위해 가장 먼저 데이터베이스에 동일한 값이 존재하는지 확인하는 로직이 실행됩니다. - 확인 이후 같은 ISBN이 동시에 저장되어 고유 제약
+     * 조건을 위반하더라도 ISBN 중복으로 처리합니다.
      *
      * @param request
      */
@@ -32,60 +54,239 @@ public class BookService {
         Author author = findAuthorById(request.getAuthorId());
         Book book = Book.from(request, author);
         bookRepository.save(book);
+        flushChanges();
+        isbnFilter.put(book.getIsbn());
+        eventPublisher.publishEvent(BookChangedEvent.created(BookResponseDto.from(book)));
     }
 
     /**
-     * 저장된 모든 도서 목록을 조회합니다. - findAll() 메서드를 사용하기 때문에 해당 테이블의 모든 데이터를 조회하는 것이므로, 데이터가 많을 경우 성능 문제가 발생할 수 있습니다.
+     * 도서 목록을 커서 기반으로 조회합니다. - 마지막으로 조회한 id 이후의 도서를 limit 개수만큼 조회하므로, 페이지의 깊이와 관계없이 조회 비용이 일정합니다. - 엔티티 대신 응답에 필요한 컬럼만
+     * 프로젝션으로 조회하므로, 영속성 컨텍스트에 엔티티가 등록되지 않습니다.
      *
+     * @param cursor
+     * @param limit
      * @return
      */
     @Transactional(readOnly = true)
-    public List<BookResponseDto> findAllBooks() {
-        List<Book> allBooks = bookRepository.findAll();
-        return allBooks.stream()
+    public CursorResponse<BookResponseDto> findAllBooks(String cursor, int limit) {
+        long afterId = CursorCodec.decodeId(cursor);
+        int size = CursorCodec.normalizeLimit(limit);
+        List<BookResponseDto> books = bookRepository.findViewsByIdGreaterThan(afterId, Limit.of(size + 1))
+                .stream()
                 .map(BookResponseDto::from)
                 .toList();
+        return CursorResponse.of(books, size, book -> CursorCodec.encodeId(book.getId()));
     }
 
+    /**
+     * 출간일 기준으로 정렬된 도서 목록을 커서 기반으로 조회합니다. - 출간일 범위와 저자를 조건으로 지정할 수 있으며, 출간일이 없는 도서는 조회 대상에서 제외됩니다. - 마지막으로 조회한 (출간일, id)
+     * 이후의 도서를 조회하므로, 인덱스를 따라 읽으며 페이지의 깊이와 관계없이 조회 비용이 일정합니다. - 같은 조건절로 응답에 필요한 컬럼만 프로젝션으로 조회하므로, 영속성 컨텍스트에 엔티티가
+     * 등록되지 않습니다.
+     *
+     * @param from
+     * @param to
+     * @param authorId
+     * @param sort
+     * @param cursor
+     * @param limit
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<BookResponseDto> findBooksByPublicationDate(LocalDate from, LocalDate to, Long authorId,
+                                                                     String sort, String cursor, int limit) {
+        Direction direction = parsePublicationDateSort(sort);
+        DateIdCursor after = CursorCodec.decodeDateAndId(cursor);
+        int size = CursorCodec.normalizeLimit(limit);
+
+        Specification<Book> condition = Specification.where(BookSpecifications.hasPublicationDate())
+                .and(BookSpecifications.publishedFrom(from))
+                .and(BookSpecifications.publishedTo(to))
+                .and(BookSpecifications.writtenBy(authorId))
+                .and(BookSpecifications.afterPublicationDate(after, direction));
+        Sort order = Sort.by(direction, "publicationDate", "id");
+
+        List<BookResponseDto> books = bookRepository.findViews(condition, order, size + 1)
+                .stream()
+                .map(BookResponseDto::from)
+                .toList();
+        return CursorResponse.of(books, size,
+                book -> CursorCodec.encodeDateAndId(LocalDate.parse(book.getPublicationDate()), book.getId()));
+    }
+
+    /**
+     * 도서 상세 정보를 조회합니다. - 조회 결과는 캐시에 저장되며, 도서가 수정되거나 삭제되면 트랜잭션 커밋 이후 캐시에서 제거됩니다. - 제거와 동시에 진행 중이던 조회가 커밋 이전의 값을
+     * 반환하더라도, 커밋된 버전보다 낮은 버전은 캐시에 다시 적재되지 않습니다(VersionedCaffeineCache). - 캐시에 없는 경우 응답에 필요한 컬럼만 프로젝션으로 조회합니다.
+     *
+     * @param id
+     * @return
+     */
+    @Cacheable(cacheNames = CacheConfig.BOOKS, key = "#id")
     @Transactional(readOnly = true)
     public BookResponseDto findBookById(Long id) {
-        Book book = findById(id);
-        return BookResponseDto.from(book);
+        return bookRepository.findViewById(id)
+                .map(BookResponseDto::from)
+                .orElseThrow(() -> new EntityNotFoundException(GlobalErrorCode.BOOK_NOT_FOUND));
     }
 
     /**
-     * 도서 상세 정보를 수정합니다. - 도서의 ISBN이 변경되었을 경우, ISBN의 고유성 검증 로직을 실행합니다. - 도서와 연관 관계를 맺는 저자 정보가 존재하지 않을 경우 예외가 발생합니다.
+     * 도서의 현재 버전을 조회합니다. - 엔티티를 로딩하지 않고 버전 컬럼만 조회하므로, 부분 수정 시 기대하는 버전과 비교하는 데 사용합니다.
      *
      * @param id
-     * @param request
+     * @return
      */
+    @Transactional(readOnly = true)
+    public Long findBookVersion(Long id) {
+        return bookRepository.findVersionById(id)
+                .orElseThrow(() -> new EntityNotFoundException(GlobalErrorCode.BOOK_NOT_FOUND));
+    }
+
     public void updateBookDetails(Long id, BookRequestDto request) {
+        updateBookDetails(id, request, null);
+    }
+
+    /**
+     * 도서 상세 정보를 수정합니다. - 도서의 ISBN이 변경되었을 경우, ISBN의 고유성 검증 로직을 실행합니다. - 도서와 연관 관계를 맺는 저자 정보가 존재하지 않을 경우 예외가 발생합니다. - 기대하는 버전이
+     * 주어졌다면 현재 버전과 일치하는 경우에만 수정합니다.
+     *
+     * @param id
+     * @param request
+     * @param expectedVersion
+     */
+    public void updateBookDetails(Long id, BookRequestDto request, Long expectedVersion) {
         Book book = findById(id);
 
-        if (!book.getIsbn().equals(request.getIsbn())) {
+        if (expectedVersion != null && !expectedVersion.equals(book.getVersion())) {
+            throw new PreconditionFailedException(GlobalErrorCode.VERSION_MISMATCH);
+        }
+
+        boolean isbnChanged = !book.getIsbn().equals(request.getIsbn());
+        if (isbnChanged) {
             validateIsbn(request.getIsbn());
         }
 
         Author author = findAuthorById(request.getAuthorId());
         book.update(request.getTitle(), request.getDescription(), request.getIsbn(), request.getPublicationDate(),
                 author);
+
+        flushChanges();
+        if (isbnChanged) {
+            isbnFilter.put(request.getIsbn());
+            isbnFilter.markRemoved();
+        }
+        eventPublisher.publishEvent(BookChangedEvent.updated(BookResponseDto.from(book)));
+    }
+
+    /**
+     * 도서 정보 중 요청에 포함된 항목만 수정합니다. - 도서 엔티티를 로딩하지 않고, 변경된 컬럼과 버전만 하나의 UPDATE 문으로 수정합니다. - ISBN이 변경되는 경우에만 ISBN의 고유성 검증
+     * 로직을 실행하며, 저자 ID가 포함된 경우에만 저자의 존재 여부를 확인합니다. - 기대하는 버전이 주어졌다면 현재 버전과 일치하는 경우에만 수정합니다. - 변경 이벤트에는 수정 이후의 도서를 프로젝션으로
+     * 조회하여 담습니다.
+     *
+     * @param id
+     * @param request
+     * @param expectedVersion
+     */
+    public void patchBookDetails(Long id, BookPatchRequestDto request, Long expectedVersion) {
+        if (!request.hasChanges()) {
+            validateVersion(findBookVersion(id), expectedVersion);
+            return;
+        }
+
+        boolean isbnChanged = false;
+        if (request.getIsbn() != null) {
+            String currentIsbn = bookRepository.findIsbnById(id)
+                    .orElseThrow(() -> new EntityNotFoundException(GlobalErrorCode.BOOK_NOT_FOUND));
+            isbnChanged = !currentIsbn.equals(request.getIsbn());
+            if (isbnChanged) {
+                validateIsbn(request.getIsbn());
+            }
+        }
+        if (request.getAuthorId() != null && !authorRepository.existsById(request.getAuthorId())) {
+            throw new EntityNotFoundException(GlobalErrorCode.AUTHOR_NOT_FOUND);
+        }
+
+        int patched;
+        try {
+            patched = bookRepository.patch(id, request, expectedVersion);
+        } catch (DataIntegrityViolationException e) {
+            throw translateIsbnConflict(e);
+        }
+        if (patched == 0) {
+            findBookVersion(id);
+            throw new PreconditionFailedException(GlobalErrorCode.VERSION_MISMATCH);
+        }
+
+        if (isbnChanged) {
+            isbnFilter.put(request.getIsbn());
+            isbnFilter.markRemoved();
+        }
+        BookResponseDto book = bookRepository.findViewById(id)
+                .map(BookResponseDto::from)
+                .orElseThrow(() -> new EntityNotFoundException(GlobalErrorCode.BOOK_NOT_FOUND));
+        eventPublisher.publishEvent(BookChangedEvent.updated(book));
     }
 
     public void delete(Long id) {
         bookRepository.deleteById(id);
+        isbnFilter.markRemoved();
+        eventPublisher.publishEvent(BookChangedEvent.deleted(id));
     }
 
     /**
-     * ISBN의 고유성을 검증하기 위해 데이터베이스에 동일한 ISBN이 존재하는지 확인합니다.
+     * publication_date[,asc|desc] 형식의 정렬 조건을 정렬 방향으로 변환합니다. - 입력하지 않으면 오름차순으로 정렬합니다.
+     *
+     * @param sort
+     * @return
+     */
+    private Direction parsePublicationDateSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Direction.ASC;
+        }
+        String[] parts = sort.split(",");
+        if (!PUBLICATION_DATE_SORT_PROPERTY.equals(parts[0].trim()) || parts.length > 2) {
+            throw new InvalidValueException(GlobalErrorCode.INVALID_SORT);
+        }
+        if (parts.length == 1) {
+            return Direction.ASC;
+        }
+        return Direction.fromOptionalString(parts[1].trim())
+                .orElseThrow(() -> new InvalidValueException(GlobalErrorCode.INVALID_SORT));
+    }
+
+    /**
+     * ISBN의 고유성을 검증하기 위해 데이터베이스에 동일한 ISBN이 존재하는지 확인합니다. - ISBN 블룸 필터에 존재하지 않는 ISBN이라면 데이터베이스 조회를 생략합니다.
      *
      * @param isbn
      */
     private void validateIsbn(String isbn) {
-        if (bookRepository.existsByIsbn(isbn)) {
+        if (isbnFilter.mightContain(isbn) && bookRepository.existsByIsbn(isbn)) {
             throw new NonUniqueValueException(GlobalErrorCode.BOOK_ISBN_DUPLICATION);
         }
     }
 
+    /**
+     * 변경 내용을 즉시 반영합니다. - 사전 검증 이후 동시에 저장된 같은 ISBN과의 충돌을 ISBN 중복으로 처리합니다. - 수정 이벤트에 증가된 버전이 담기도록, 이벤트 발행 전에 호출합니다.
+     */
+    private void flushChanges() {
+        try {
+            bookRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw translateIsbnConflict(e);
+        }
+    }
+
+    private RuntimeException translateIsbnConflict(DataIntegrityViolationException e) {
+        if (IsbnConstraint.isViolatedBy(e)) {
+            return new NonUniqueValueException(GlobalErrorCode.BOOK_ISBN_DUPLICATION);
+        }
+        return e;
+    }
+
+    private void validateVersion(Long currentVersion, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException(GlobalErrorCode.VERSION_MISMATCH);
+        }
+    }
+
     private Book findById(Long id) {
         return bookRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(GlobalErrorCode.BOOK_NOT_FOUND));
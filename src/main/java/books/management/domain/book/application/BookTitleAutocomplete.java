@@ -0,0 +1,156 @@
+package books.management.domain.book.application;
+
+import books.management.domain.author.event.AuthorChangedEvent;
+import books.management.domain.book.dao.BookRepository;
+import books.management.domain.book.dto.response.BookTitleResponseDto;
+import books.management.domain.book.event.BookChangedEvent;
+import books.management.global.common.event.ChangeType;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 도서 제목 자동완성을 위한 인메모리 정렬 색인입니다. - 정규화한 제목을 키로 정렬해 두므로, 접두사 검색은 접두사 위치를 O(log n)으로 찾은 뒤 최대 limit개만 순서대로 읽습니다. - 애플리케이션 시작 시 저장된
+ * 도서 제목으로 생성하며, 이후에는 도서 변경 이벤트로 점진적으로 갱신합니다.
+ */
+@Slf4j
+@Component
+public class BookTitleAutocomplete {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final BookRepository bookRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final NavigableMap<String, BookTitleResponseDto> titles = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> keysById = new ConcurrentHashMap<>();
+    private final Set<Long> changedDuringBuild = new HashSet<>();
+    private boolean building;
+
+    public BookTitleAutocomplete(BookRepository bookRepository, PlatformTransactionManager transactionManager) {
+        this.bookRepository = bookRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 저장된 모든 도서 제목을 스트림으로 조회하여 색인을 생성합니다. - 생성 중에 변경된 도서는 이벤트로 이미 반영되었으므로, 스트림에서 읽은 이전 값으로 덮어쓰지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        setBuilding(true);
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<BookTitleResponseDto> books = bookRepository.streamAllTitles()) {
+                    books.forEach(this::putIfUnchanged);
+                }
+            });
+            log.info("Book title autocomplete index built: {} titles", keysById.size());
+        } finally {
+            setBuilding(false);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBookChanged(BookChangedEvent event) {
+        markChanged(event.getBookId());
+        if (event.getType() == ChangeType.DELETED) {
+            remove(event.getBookId());
+        } else {
+            put(new BookTitleResponseDto(event.getBookId(), event.getBook().getTitle()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onAuthorChanged(AuthorChangedEvent event) {
+        for (Long bookId : event.getDeletedBookIds()) {
+            markChanged(bookId);
+            remove(bookId);
+        }
+    }
+
+    /**
+     * 정규화한 제목이 주어진 접두사로 시작하는 도서를 제목 순서대로 최대 limit개 반환합니다.
+     *
+     * @param prefix
+     * @param limit
+     * @return
+     */
+    public List<BookTitleResponseDto> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        List<BookTitleResponseDto> suggestions = new ArrayList<>(limit);
+        for (Map.Entry<String, BookTitleResponseDto> entry : titles.tailMap(normalized, true).entrySet()) {
+            if (suggestions.size() >= limit || !entry.getKey().startsWith(normalized)) {
+                break;
+            }
+            suggestions.add(entry.getValue());
+        }
+        return suggestions;
+    }
+
+    /**
+     * 대소문자와 전각/반각, 연속된 공백의 차이를 없애 비교할 수 있는 형태로 변환합니다.
+     *
+     * @param text
+     * @return
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    private synchronized void putIfUnchanged(BookTitleResponseDto title) {
+        if (!changedDuringBuild.contains(title.getId())) {
+            put(title);
+        }
+    }
+
+    private void put(BookTitleResponseDto title) {
+        remove(title.getId());
+        String key = normalize(title.getTitle()) + KEY_SEPARATOR + title.getId();
+        titles.put(key, title);
+        keysById.put(title.getId(), key);
+    }
+
+    private void remove(Long bookId) {
+        String key = keysById.remove(bookId);
+        if (key != null) {
+            titles.remove(key);
+        }
+    }
+
+    private void markChanged(Long bookId) {
+        if (building) {
+            changedDuringBuild.add(bookId);
+        }
+    }
+
+    private synchronized void setBuilding(boolean building) {
+        this.building = building;
+        changedDuringBuild.clear();
+    }
+}
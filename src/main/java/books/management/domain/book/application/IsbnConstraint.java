@@ -0,0 +1,33 @@
+package books.management.domain.book.application;
+
+import books.management.domain.book.domain.Book;
+import java.util.Locale;
+import org.hibernate.exception.ConstraintViolationException;
+
+/**
+ * 저장 중 발생한 예외가 ISBN 고유 제약 조건 위반인지 판단합니다. - 블룸 필터와 사전 조회를 통과한 동시 등록이 flush 시점에 충돌하는 경우, 이를 ISBN 중복으로 처리하기 위해 사용합니다.
+ */
+final class IsbnConstraint {
+
+    private IsbnConstraint() {
+    }
+
+    /**
+     * 예외의 원인 중 ISBN 고유 제약 조건을 위반한 ConstraintViolationException이 있는지 확인합니다. - 데이터베이스마다 제약 조건 이름에 스키마나 인덱스 이름이 덧붙을 수 있으므로, 이름을
+     * 포함하는지로 판단합니다.
+     *
+     * @param e
+     * @return
+     */
+    static boolean isViolatedBy(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String name = violation.getConstraintName() != null
+                        ? violation.getConstraintName()
+                        : violation.getMessage();
+                return name != null && name.toLowerCase(Locale.ROOT).contains(Book.ISBN_UNIQUE_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+}
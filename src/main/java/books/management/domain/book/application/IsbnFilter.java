@@ -0,0 +1,201 @@
+package books.management.domain.book.application;
+
+import books.management.domain.author.event.AuthorChangedEvent;
+import books.management.domain.book.dao.BookRepository;
+import books.management.global.common.filter.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 저장된 ISBN에 대한 블룸 필터입니다. - 필터에 존재하지 않는 ISBN은 데이터베이스에도 존재하지 않으므로, ISBN 고유성 검증 시 데이터베이스 조회를 생략할 수 있습니다. - 애플리케이션 시작 시 ISBN을 스트림으로
+ * 조회하여 생성하며, 생성이 끝나기 전에는 항상 데이터베이스를 조회하도록 동작합니다.
+ */
+@Slf4j
+@Component
+public class IsbnFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long MIN_EXPECTED_INSERTIONS = 100_000;
+    private static final double STALE_RATIO = 0.1;
+
+    private final BookRepository bookRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor executor;
+    private final Counter savedLookups;
+    private final Counter databaseLookups;
+
+    private final AtomicLong insertions = new AtomicLong();
+    private final AtomicLong removals = new AtomicLong();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Queue<String> pendingPuts = new ConcurrentLinkedQueue<>();
+    private volatile BloomFilter active;
+    private volatile long capacity;
+
+    public IsbnFilter(BookRepository bookRepository, PlatformTransactionManager transactionManager,
+                      @Qualifier("applicationTaskExecutor") Executor executor, MeterRegistry meterRegistry) {
+        this.bookRepository = bookRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executor = executor;
+        this.savedLookups = Counter.builder("books.isbn.filter.lookups")
+                .description("ISBN 고유성 검증 시 블룸 필터로 생략한 데이터베이스 조회 수")
+                .tag("result", "saved")
+                .register(meterRegistry);
+        this.databaseLookups = Counter.builder("books.isbn.filter.lookups")
+                .description("ISBN 고유성 검증 시 데이터베이스까지 조회한 수")
+                .tag("result", "database")
+                .register(meterRegistry);
+        Gauge.builder("books.isbn.filter.entries", insertions, AtomicLong::get)
+                .description("블룸 필터에 추가된 ISBN의 대략적인 개수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 해당 ISBN이 이미 존재할 가능성이 있는지 확인합니다. - false라면 데이터베이스에 존재하지 않음이 보장되며, true라면 데이터베이스 조회로 확인해야 합니다.
+     *
+     * @param isbn
+     * @return
+     */
+    public boolean mightContain(String isbn) {
+        BloomFilter filter = active;
+        if (filter == null || filter.mightContain(isbn)) {
+            databaseLookups.increment();
+            return true;
+        }
+        savedLookups.increment();
+        return false;
+    }
+
+    /**
+     * 새로 저장되는 ISBN을 필터에 추가합니다. - 재생성 중이라면 새로 만들어지는 필터에도 반영되도록 기록합니다. - 트랜잭션 안에서 호출되면 커밋 후에 한 번 더 추가하여, 커밋 전에 시작된 재생성
+     * 조회에서 누락되더라도 새 필터에 반영되도록 합니다.
+     *
+     * @param isbn
+     */
+    public void put(String isbn) {
+        apply(isbn);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(isbn);
+                }
+            });
+        }
+        if (insertions.incrementAndGet() > capacity) {
+            scheduleRebuild();
+        }
+    }
+
+    private void apply(String isbn) {
+        if (rebuilding.get()) {
+            pendingPuts.add(isbn);
+        }
+        BloomFilter filter = active;
+        if (filter != null) {
+            filter.put(isbn);
+        }
+    }
+
+    /**
+     * ISBN이 삭제되었거나 변경되었음을 기록합니다. - 블룸 필터는 원소를 제거할 수 없으므로, 제거된 ISBN이 일정 비율 이상 쌓이면 오탐률을 낮추기 위해 필터를 다시 생성합니다.
+     */
+    public void markRemoved() {
+        markRemoved(1);
+    }
+
+    public void markRemoved(long count) {
+        long removed = removals.addAndGet(count);
+        if (removed > Math.max(1_000, insertions.get() * STALE_RATIO)) {
+            scheduleRebuild();
+        }
+    }
+
+    /**
+     * 저자 삭제로 함께 삭제된 도서의 ISBN도 제거된 것으로 기록합니다.
+     *
+     * @param event
+     */
+    @TransactionalEventListener
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        if (!event.getDeletedBookIds().isEmpty()) {
+            markRemoved(event.getDeletedBookIds().size());
+        }
+    }
+
+    private void scheduleRebuild() {
+        if (!rebuilding.get()) {
+            executor.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * 필터를 다시 생성합니다. - ISBN을 조회하는 동안 추가된 ISBN은 교체 직전에 새 필터에 반영하며, 교체 직후 한 번 더 반영하여 교체 시점과 겹친 추가도 누락되지 않도록 합니다.
+     */
+    private void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long stored = readOnlyTransaction.execute(status -> bookRepository.count());
+            long expected = Math.max(MIN_EXPECTED_INSERTIONS, stored * 2);
+            BloomFilter next = BloomFilter.create(expected, FALSE_POSITIVE_RATE);
+
+            Long loaded = readOnlyTransaction.execute(status -> {
+                long count = 0;
+                try (Stream<String> isbns = bookRepository.streamAllIsbns()) {
+                    for (String isbn : (Iterable<String>) isbns::iterator) {
+                        next.put(isbn);
+                        count++;
+                    }
+                }
+                return count;
+            });
+
+            long replayed = replayPendingPuts(next);
+            capacity = expected;
+            insertions.set(loaded + replayed);
+            removals.set(0);
+            active = next;
+            replayPendingPuts(next);
+            log.info("ISBN bloom filter built: {} entries, {} bits", loaded + replayed, next.bitSize());
+        } catch (RuntimeException e) {
+            log.warn("Failed to build ISBN bloom filter, falling back to database lookups", e);
+        } finally {
+            rebuilding.set(false);
+            pendingPuts.clear();
+        }
+    }
+
+    private long replayPendingPuts(BloomFilter filter) {
+        long count = 0;
+        String isbn;
+        while ((isbn = pendingPuts.poll()) != null) {
+            filter.put(isbn);
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,48 @@
+package books.management.domain.book.dao;
+
+import books.management.domain.author.domain.Author;
+import books.management.domain.book.domain.Book;
+import books.management.domain.book.dto.request.BookPatchRequestDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class BookPatchRepositoryImpl implements BookPatchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int patch(Long id, BookPatchRequestDto request, Long expectedVersion) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Book> update = builder.createCriteriaUpdate(Book.class);
+        Root<Book> book = update.from(Book.class);
+
+        if (request.getTitle() != null) {
+            update.set(book.<String>get("title"), request.getTitle());
+        }
+        if (request.getDescription() != null) {
+            update.set(book.<String>get("description"), request.getDescription());
+        }
+        if (request.getIsbn() != null) {
+            update.set(book.<String>get("isbn"), request.getIsbn());
+        }
+        if (request.getPublicationDate() != null) {
+            update.set(book.get("publicationDate"), request.getPublicationDate());
+        }
+        if (request.getAuthorId() != null) {
+            update.set(book.<Author>get("author"), entityManager.getReference(Author.class, request.getAuthorId()));
+        }
+        update.set(book.<Long>get("version"), builder.sum(book.<Long>get("version"), 1L));
+
+        Predicate condition = builder.equal(book.get("id"), id);
+        if (expectedVersion != null) {
+            condition = builder.and(condition, builder.equal(book.get("version"), expectedVersion));
+        }
+        update.where(condition);
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
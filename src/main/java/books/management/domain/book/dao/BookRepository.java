@@ -1,10 +1,105 @@
 package books.management.domain.book.dao;
 
 import books.management.domain.book.domain.Book;
+import books.management.domain.book.dto.projection.BookCatalogView;
+import books.management.domain.book.dto.projection.BookView;
+import books.management.domain.book.dto.response.BookTitleResponseDto;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book>, BookPatchRepository,
+        BookViewRepository {
 
     public boolean existsByIsbn(String isbn);
 
+    /**
+     * 도서의 버전 값만 조회합니다. - 부분 수정 시 엔티티를 로딩하지 않고 기대하는 버전과 비교하기 위해 사용합니다.
+     */
+    @Query("select b.version from Book b where b.id = :id")
+    public Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * 도서의 ISBN 값만 조회합니다. - 부분 수정 시 ISBN이 변경되는지 확인하기 위해 사용합니다.
+     */
+    @Query("select b.isbn from Book b where b.id = :id")
+    public Optional<String> findIsbnById(@Param("id") Long id);
+
+    /**
+     * 주어진 ISBN 중 이미 저장된 ISBN만 조회합니다. - 대량 등록 시 청크 단위로 한 번의 IN 쿼리로 고유성을 검증하기 위해 사용합니다.
+     */
+    @Query("select b.isbn from Book b where b.isbn in :isbns")
+    public Set<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+
+    @Query("select b.id from Book b where b.author.id = :authorId")
+    public List<Long> findIdsByAuthorId(@Param("authorId") Long authorId);
+
+    /**
+     * 저자의 모든 도서를 한 번의 DELETE 문으로 삭제합니다. - 엔티티를 로딩하지 않으므로 영속성 컨텍스트와 캐시는 호출하는 쪽에서 정리해야 합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Book b where b.author.id = :authorId")
+    public int deleteAllByAuthorIdInBulk(@Param("authorId") Long authorId);
+
+    /**
+     * PK 인덱스를 이용해 id가 주어진 값보다 큰 도서를 응답에 필요한 컬럼만 순서대로 조회합니다. - OFFSET을 사용하지 않으므로 페이지의 깊이와 관계없이 일정한 비용으로 조회되며, 엔티티를 관리하지
+     * 않으므로 스냅샷 복사와 프록시 생성 비용이 없습니다.
+     */
+    @Query("select new books.management.domain.book.dto.projection.BookView("
+            + "b.id, b.title, b.description, b.isbn, b.publicationDate, b.author.id, b.version) "
+            + "from Book b where b.id > :id order by b.id")
+    public List<BookView> findViewsByIdGreaterThan(@Param("id") Long id, Limit limit);
+
+    /**
+     * 도서 한 건을 응답에 필요한 컬럼만 조회합니다.
+     */
+    @Query("select new books.management.domain.book.dto.projection.BookView("
+            + "b.id, b.title, b.description, b.isbn, b.publicationDate, b.author.id, b.version) "
+            + "from Book b where b.id = :id")
+    public Optional<BookView> findViewById(@Param("id") Long id);
+
+    /**
+     * 모든 도서를 스트림으로 조회합니다. - JDBC fetch size 단위로 결과를 가져오므로 전체 테이블을 한 번에 메모리에 올리지 않습니다. - 트랜잭션 안에서 사용해야 하며, 사용 후 반드시 스트림을 닫아야
+     * 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select b from Book b order by b.id")
+    public Stream<Book> streamAll();
+
+    /**
+     * 모든 ISBN을 스트림으로 조회합니다. - ISBN 블룸 필터를 생성할 때 엔티티를 로딩하지 않고 ISBN 컬럼만 읽기 위해 사용합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select b.isbn from Book b")
+    public Stream<String> streamAllIsbns();
+
+    /**
+     * 모든 도서의 id와 제목을 스트림으로 조회합니다. - 제목 자동완성 색인을 생성할 때 필요한 컬럼만 읽기 위해 사용합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new books.management.domain.book.dto.response.BookTitleResponseDto(b.id, b.title) from Book b")
+    public Stream<BookTitleResponseDto> streamAllTitles();
+
+    /**
+     * 모든 도서의 id, 저자 id, 출간일을 스트림으로 조회합니다. - 도서 통계를 생성할 때 한 번의 테이블 스캔으로 필요한 컬럼만 읽기 위해 사용합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new books.management.domain.book.dto.projection.BookCatalogView(b.id, b.author.id, b.publicationDate) "
+            + "from Book b")
+    public Stream<BookCatalogView> streamAllCatalogViews();
+
 }
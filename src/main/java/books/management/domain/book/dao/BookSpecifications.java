@@ -0,0 +1,63 @@
+package books.management.domain.book.dao;
+
+import books.management.domain.book.domain.Book;
+import books.management.global.common.pagination.DateIdCursor;
+import java.time.LocalDate;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 도서 목록 조회 조건을 조합하기 위한 Specification 모음입니다. - 조건이 주어진 경우에만 조건절에 포함되므로, 데이터베이스는 (publication_date, id) 또는 (author_id,
+ * publication_date, id) 인덱스를 그대로 사용할 수 있습니다.
+ */
+public final class BookSpecifications {
+
+    private BookSpecifications() {
+    }
+
+    public static Specification<Book> hasPublicationDate() {
+        return (root, query, cb) -> cb.isNotNull(root.get("publicationDate"));
+    }
+
+    public static Specification<Book> publishedFrom(LocalDate from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("publicationDate"), from);
+    }
+
+    public static Specification<Book> publishedTo(LocalDate to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("publicationDate"), to);
+    }
+
+    public static Specification<Book> writtenBy(Long authorId) {
+        return authorId == null ? null : (root, query, cb) -> cb.equal(root.get("author").get("id"), authorId);
+    }
+
+    /**
+     * 커서 이후의 행만 조회하는 keyset 조건입니다. - 정렬 방향에 따라 (publication_date, id) 가 커서보다 크거나 작은 행을 조회합니다. - OR 조건만으로는 데이터베이스가 인덱스
+     * 범위 탐색의 시작점을 정하지 못할 수 있으므로, 결과에는 영향이 없는 publication_date의 범위 조건(오름차순이면 >=, 내림차순이면 <=)을 AND로 함께 붙입니다.
+     *
+     * @param cursor
+     * @param direction
+     * @return
+     */
+    public static Specification<Book> afterPublicationDate(DateIdCursor cursor, Direction direction) {
+        if (cursor == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (direction.isAscending()) {
+                return cb.and(
+                        cb.greaterThanOrEqualTo(root.get("publicationDate"), cursor.date()),
+                        cb.or(
+                                cb.greaterThan(root.get("publicationDate"), cursor.date()),
+                                cb.and(cb.equal(root.get("publicationDate"), cursor.date()),
+                                        cb.greaterThan(root.get("id"), cursor.id()))));
+            }
+            return cb.and(
+                    cb.lessThanOrEqualTo(root.get("publicationDate"), cursor.date()),
+                    cb.or(
+                            cb.lessThan(root.get("publicationDate"), cursor.date()),
+                            cb.and(cb.equal(root.get("publicationDate"), cursor.date()),
+                                    cb.lessThan(root.get("id"), cursor.id()))));
+        };
+    }
+}
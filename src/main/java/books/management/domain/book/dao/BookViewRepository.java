@@ -0,0 +1,17 @@
+package books.management.domain.book.dao;
+
+import books.management.domain.book.domain.Book;
+import books.management.domain.book.dto.projection.BookView;
+import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface BookViewRepository {
+
+    /**
+     * 조건에 맞는 도서를 BookView 프로젝션으로 조회합니다. - Specification의 조건절을 그대로 사용하되, 엔티티 대신 응답에 필요한 컬럼만 생성자 표현식으로 조회합니다.
+     *
+     * @return 정렬 순서대로 최대 limit개의 도서
+     */
+    public List<BookView> findViews(Specification<Book> condition, Sort sort, int limit);
+}
@@ -0,0 +1,45 @@
+package books.management.domain.book.dao;
+
+import books.management.domain.book.domain.Book;
+import books.management.domain.book.dto.projection.BookView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+@RequiredArgsConstructor
+public class BookViewRepositoryImpl implements BookViewRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<BookView> findViews(Specification<Book> condition, Sort sort, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookView> query = builder.createQuery(BookView.class);
+        Root<Book> book = query.from(Book.class);
+
+        query.select(builder.construct(BookView.class,
+                book.get("id"),
+                book.get("title"),
+                book.get("description"),
+                book.get("isbn"),
+                book.get("publicationDate"),
+                book.get("author").get("id"),
+                book.get("version")));
+
+        Predicate predicate = condition.toPredicate(book, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, book, builder));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
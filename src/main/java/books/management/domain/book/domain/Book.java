@@ -8,9 +8,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import java.time.LocalDate;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,22 +23,32 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "book")
+@Table(name = "book", indexes = {
+        @Index(name = "idx_book_publication_date_id", columnList = "publication_date, id"),
+        @Index(name = "idx_book_author_id_publication_date_id", columnList = "author_id, publication_date, id")
+}, uniqueConstraints = @UniqueConstraint(name = Book.ISBN_UNIQUE_CONSTRAINT, columnNames = "isbn"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Book {
 
+    public static final String ISBN_UNIQUE_CONSTRAINT = "uk_book_isbn";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq_generator")
+    @SequenceGenerator(name = "book_seq_generator", sequenceName = "book_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @Column(nullable = false)
     private String title;
 
     private String description;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String isbn;
 
+    @Column(name = "publication_date")
     private LocalDate publicationDate;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,13 @@
+package books.management.domain.book.dto.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 도서 통계 집계에 필요한 컬럼(저자, 출간일)만 담는 프로젝션입니다.
+ */
+public record BookCatalogView(
+        Long id,
+        Long authorId,
+        LocalDate publicationDate) {
+
+}
@@ -0,0 +1,17 @@
+package books.management.domain.book.dto.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 도서 조회 응답에 필요한 컬럼만 담는 프로젝션입니다. - JPQL 생성자 표현식으로 조회하므로 영속성 컨텍스트에 엔티티가 등록되지 않고, 저자는 프록시 없이 author_id 컬럼 값으로 조회합니다.
+ */
+public record BookView(
+        Long id,
+        String title,
+        String description,
+        String isbn,
+        LocalDate publicationDate,
+        Long authorId,
+        Long version) {
+
+}
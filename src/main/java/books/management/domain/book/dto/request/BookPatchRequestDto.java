@@ -0,0 +1,48 @@
+package books.management.domain.book.dto.request;
+
+import jakarta.validation.constraints.Pattern;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.validator.constraints.Length;
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * 도서 부분 수정 요청입니다. - 입력하지 않은(null) 항목은 수정하지 않습니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookPatchRequestDto {
+
+    @Pattern(regexp = "^(?!\\s*$).+", message = "제목은 빈 값일 수 없습니다.")
+    @Length(max = 255)
+    private String title;
+
+    @Length(max = 255)
+    private String description;
+
+    @Length(min = 10, max = 10)
+    @Pattern(regexp = "^(?:10|[1-8][0-9]|90)[0-9]{7}0$", message = "ISBN 형식에 맞지 않습니다.")
+    private String isbn;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate publicationDate;
+
+    private Long authorId;
+
+    @Builder
+    private BookPatchRequestDto(String title, String description, String isbn, LocalDate publicationDate,
+                                Long authorId) {
+        this.title = title;
+        this.description = description;
+        this.isbn = isbn;
+        this.publicationDate = publicationDate;
+        this.authorId = authorId;
+    }
+
+    public boolean hasChanges() {
+        return title != null || description != null || isbn != null || publicationDate != null || authorId != null;
+    }
+}
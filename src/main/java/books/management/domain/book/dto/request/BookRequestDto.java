@@ -16,7 +16,10 @@ import org.springframework.format.annotation.DateTimeFormat;
 public class BookRequestDto {
 
     @NotBlank(message = "제목은 필수 입력 값입니다.")
+    @Length(max = 255)
     private String title;
+
+    @Length(max = 255)
     private String description;
 
     @NotBlank(message = "ISBN은 필수 입력 값입니다.")
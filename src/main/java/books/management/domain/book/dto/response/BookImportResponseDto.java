@@ -0,0 +1,40 @@
+package books.management.domain.book.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class BookImportResponseDto {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<RowError> errors;
+
+    @Builder
+    private BookImportResponseDto(int total, int succeeded, int failed, List<RowError> errors) {
+        this.total = total;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.errors = errors;
+    }
+
+    /**
+     * 등록에 실패한 행의 정보입니다. - 성공한 행은 개수만 집계하고, 실패한 행만 행 번호와 사유를 함께 반환합니다.
+     */
+    @Getter
+    public static class RowError {
+
+        private int row;
+        private String isbn;
+        private String reason;
+
+        @Builder
+        private RowError(int row, String isbn, String reason) {
+            this.row = row;
+            this.isbn = isbn;
+            this.reason = reason;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package books.management.domain.book.dto.response;
 
 import books.management.domain.book.domain.Book;
+import books.management.domain.book.dto.projection.BookView;
+import books.management.global.common.cache.Versioned;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
-public class BookResponseDto {
+public class BookResponseDto implements Versioned {
 
     private Long id;
     private String title;
@@ -14,15 +17,19 @@ public class BookResponseDto {
     private String publicationDate;
     private Long authorId;
 
+    @JsonIgnore
+    private Long version;
+
     @Builder
     public BookResponseDto(Long id, String title, String description, String isbn, String publicationDate,
-                           Long authorId) {
+                           Long authorId, Long version) {
         this.id = id;
         this.title = title;
         this.description = description;
         this.isbn = isbn;
         this.publicationDate = publicationDate;
         this.authorId = authorId;
+        this.version = version;
     }
 
     public static BookResponseDto from(Book book) {
@@ -31,8 +38,21 @@ public class BookResponseDto {
                 .title(book.getTitle())
                 .description(book.getDescription())
                 .isbn(book.getIsbn())
-                .publicationDate(book.getPublicationDate().toString())
+                .publicationDate(book.getPublicationDate() == null ? null : book.getPublicationDate().toString())
                 .authorId(book.getAuthor().getId())
+                .version(book.getVersion())
+                .build();
+    }
+
+    public static BookResponseDto from(BookView book) {
+        return BookResponseDto.builder()
+                .id(book.id())
+                .title(book.title())
+                .description(book.description())
+                .isbn(book.isbn())
+                .publicationDate(book.publicationDate() == null ? null : book.publicationDate().toString())
+                .authorId(book.authorId())
+                .version(book.version())
                 .build();
     }
 }
@@ -0,0 +1,15 @@
+package books.management.domain.book.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class BookTitleResponseDto {
+
+    private Long id;
+    private String title;
+
+    public BookTitleResponseDto(Long id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+}
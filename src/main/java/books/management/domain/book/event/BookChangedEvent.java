@@ -0,0 +1,35 @@
+package books.management.domain.book.event;
+
+import books.management.domain.book.dto.response.BookResponseDto;
+import books.management.global.common.event.ChangeType;
+import lombok.Getter;
+
+/**
+ * 도서가 생성, 수정, 삭제되었음을 알리는 이벤트입니다. - 캐시 무효화 등 부가 작업은 트랜잭션 커밋 이후 이 이벤트를 구독하여 처리합니다. - 생성, 수정 이벤트는 변경 이후의 도서 정보를 포함하며, 삭제 이벤트는
+ * 도서 id만 포함합니다.
+ */
+@Getter
+public class BookChangedEvent {
+
+    private final ChangeType type;
+    private final Long bookId;
+    private final BookResponseDto book;
+
+    private BookChangedEvent(ChangeType type, Long bookId, BookResponseDto book) {
+        this.type = type;
+        this.bookId = bookId;
+        this.book = book;
+    }
+
+    public static BookChangedEvent created(BookResponseDto book) {
+        return new BookChangedEvent(ChangeType.CREATED, book.getId(), book);
+    }
+
+    public static BookChangedEvent updated(BookResponseDto book) {
+        return new BookChangedEvent(ChangeType.UPDATED, book.getId(), book);
+    }
+
+    public static BookChangedEvent deleted(Long bookId) {
+        return new BookChangedEvent(ChangeType.DELETED, bookId, null);
+    }
+}
@@ -0,0 +1,31 @@
+package books.management.domain.feed.api;
+
+import books.management.domain.feed.application.ChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/changes")
+@RequiredArgsConstructor
+public class ChangeFeedApi {
+
+    private final ChangeFeed changeFeed;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "변경 피드 구독 API",
+            description = """
+                    도서, 저자의 생성, 수정, 삭제 이벤트를 SSE(Server-Sent Events)로 전달하는 API 입니다.
+                    - 변경 이벤트는 change 이벤트로 전달되며, id는 서버 시작 시점을 나타내는 epoch와 1부터 증가하는 순번을 이은 값(epoch-순번)입니다.
+                    - 저자 삭제 시 함께 삭제된 도서도 각각 도서 삭제 이벤트로 전달됩니다.
+                    - 재연결 시 Last-Event-ID 헤더에 마지막으로 받은 id를 입력하면 그 이후의 이벤트부터 전달합니다.
+                    - 최근 이벤트만 보관하므로, 이어 받을 이벤트가 이미 지워졌거나 서버가 재시작되었다면 reset 이벤트를 전달합니다. 이 경우 목록을 다시 조회해야 합니다.""")
+    public SseEmitter subscribe(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return changeFeed.subscribe(lastEventId);
+    }
+}
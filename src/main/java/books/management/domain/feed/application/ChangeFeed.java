@@ -0,0 +1,148 @@
+package books.management.domain.feed.application;
+
+import books.management.domain.author.event.AuthorChangedEvent;
+import books.management.domain.book.event.BookChangedEvent;
+import books.management.domain.feed.application.ChangeRingBuffer.Slice;
+import books.management.domain.feed.dto.response.ChangeEventResponseDto;
+import books.management.global.common.event.ChangeType;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 도서, 저자의 변경 이벤트를 SSE(Server-Sent Events)로 전달하는 변경 피드입니다.
+ * <p>
+ * - 트랜잭션 커밋 이후의 변경 이벤트만 순번을 붙여 링 버퍼에 기록하며, 저자 삭제 시 함께 삭제된 도서도 각각 도서 삭제 이벤트로 기록합니다.
+ * <p>
+ * - 구독자는 Last-Event-ID로 마지막으로 받은 순번을 전달하여, 연결이 끊긴 동안의 이벤트를 링 버퍼에서 이어 받을 수 있습니다. 해당 이벤트가 이미 덮어써졌거나 재시작 전에 받은 id라면 reset 이벤트를 보내
+ * 목록을 다시 조회하도록 합니다.
+ * <p>
+ * - 이벤트 전송은 구독자마다 별도의 작업으로 실행되므로, 느린 구독자가 변경 요청을 처리하는 스레드를 지연시키지 않습니다.
+ */
+@Slf4j
+@Component
+public class ChangeFeed {
+
+    private static final String BOOK = "BOOK";
+    private static final String AUTHOR = "AUTHOR";
+
+    private final ChangeRingBuffer buffer;
+    private final Executor executor;
+    private final Duration emitterTimeout;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    public ChangeFeed(@Qualifier("applicationTaskExecutor") Executor executor,
+                      @Value("${books.change-feed.capacity:10000}") int capacity,
+                      @Value("${books.change-feed.emitter-timeout:30m}") Duration emitterTimeout) {
+        this.buffer = new ChangeRingBuffer(capacity);
+        this.executor = executor;
+        this.emitterTimeout = emitterTimeout;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        buffer.append(sequence -> ChangeEventResponseDto.builder()
+                .sequence(sequence)
+                .resource(BOOK)
+                .type(event.getType())
+                .id(event.getBookId())
+                .book(event.getBook())
+                .build());
+        notifySubscribers();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        for (Long bookId : event.getDeletedBookIds()) {
+            buffer.append(sequence -> ChangeEventResponseDto.builder()
+                    .sequence(sequence)
+                    .resource(BOOK)
+                    .type(ChangeType.DELETED)
+                    .id(bookId)
+                    .build());
+        }
+        buffer.append(sequence -> ChangeEventResponseDto.builder()
+                .sequence(sequence)
+                .resource(AUTHOR)
+                .type(event.getType())
+                .id(event.getAuthorId())
+                .build());
+        notifySubscribers();
+    }
+
+    /**
+     * 변경 피드를 구독합니다. - lastEventId가 없으면 구독 이후의 이벤트만 전달합니다.
+     *
+     * @param lastEventId
+     * @return
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter,
+                lastEventId == null ? buffer.lastSequence() : buffer.sequenceOf(lastEventId));
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscriber.schedule();
+        return emitter;
+    }
+
+    private void notifySubscribers() {
+        subscribers.forEach(Subscriber::schedule);
+    }
+
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private long lastSent;
+
+        private Subscriber(SseEmitter emitter, long lastSent) {
+            this.emitter = emitter;
+            this.lastSent = lastSent;
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private synchronized void drain() {
+            scheduled.set(false);
+            Slice slice = buffer.since(lastSent);
+            try {
+                if (slice.truncated()) {
+                    emitter.send(SseEmitter.event()
+                            .id(buffer.eventId(slice.lastSequence()))
+                            .name("reset")
+                            .data(slice.lastSequence()));
+                    lastSent = slice.lastSequence();
+                    return;
+                }
+                for (ChangeEventResponseDto event : slice.events()) {
+                    emitter.send(SseEmitter.event()
+                            .id(buffer.eventId(event.getSequence()))
+                            .name("change")
+                            .data(event, MediaType.APPLICATION_JSON));
+                    lastSent = event.getSequence();
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Change feed subscriber disconnected", e);
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
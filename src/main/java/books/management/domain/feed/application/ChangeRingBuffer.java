@@ -0,0 +1,100 @@
+package books.management.domain.feed.application;
+
+import books.management.domain.feed.dto.response.ChangeEventResponseDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * 최근 변경 이벤트를 순번과 함께 보관하는 고정 크기 링 버퍼입니다. - 순번은 1부터 1씩 증가하며, 버퍼가 가득 차면 가장 오래된 이벤트부터 덮어씁니다. - 클라이언트가 마지막으로 받은 순번 이후의
+ * 이벤트가 모두 남아 있다면 그 이벤트만 다시 전달할 수 있고, 일부가 덮어써졌다면 truncated로 알려 전체를 다시 조회하도록 합니다. - 버퍼는 메모리에만 존재하여 재시작하면 순번이 1부터 다시
+ * 시작되므로, 이벤트 id에 버퍼 생성 시점의 epoch를 붙여 이전 버퍼에서 받은 id를 구분합니다.
+ */
+public class ChangeRingBuffer {
+
+    /**
+     * 이 버퍼에서 발급하지 않은 이벤트 id의 순번입니다. - 마지막 순번보다 항상 크므로 since 조회 시 truncated로 처리됩니다.
+     */
+    public static final long UNKNOWN_SEQUENCE = Long.MAX_VALUE;
+
+    private static final char ID_SEPARATOR = '-';
+
+    private final ChangeEventResponseDto[] events;
+    private final String epoch;
+    private long lastSequence;
+
+    public ChangeRingBuffer(int capacity) {
+        this(capacity, Long.toString(System.currentTimeMillis(), Character.MAX_RADIX));
+    }
+
+    ChangeRingBuffer(int capacity, String epoch) {
+        this.events = new ChangeEventResponseDto[capacity];
+        this.epoch = epoch;
+    }
+
+    public synchronized ChangeEventResponseDto append(LongFunction<ChangeEventResponseDto> eventOf) {
+        ChangeEventResponseDto event = eventOf.apply(++lastSequence);
+        events[(int) (lastSequence % events.length)] = event;
+        return event;
+    }
+
+    /**
+     * 주어진 순번 이후의 이벤트를 순서대로 반환합니다. - 이어 받을 이벤트가 덮어써졌거나, 마지막 순번보다 큰 순번(이전 버퍼의 순번)을 요청하면 truncated를 반환합니다.
+     *
+     * @param after 클라이언트가 마지막으로 받은 순번
+     * @return
+     */
+    public synchronized Slice since(long after) {
+        long oldest = Math.max(1, lastSequence - events.length + 1);
+        if (after < oldest - 1 || after > lastSequence) {
+            return new Slice(List.of(), true, lastSequence);
+        }
+
+        List<ChangeEventResponseDto> result = new ArrayList<>((int) (lastSequence - after));
+        for (long sequence = after + 1; sequence <= lastSequence; sequence++) {
+            result.add(events[(int) (sequence % events.length)]);
+        }
+        return new Slice(result, false, lastSequence);
+    }
+
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * 순번에 epoch를 붙여 SSE 이벤트 id를 생성합니다.
+     *
+     * @param sequence
+     * @return
+     */
+    public String eventId(long sequence) {
+        return epoch + ID_SEPARATOR + sequence;
+    }
+
+    /**
+     * 이벤트 id에서 순번을 꺼냅니다. - 다른 epoch의 id이거나 형식이 올바르지 않으면 UNKNOWN_SEQUENCE를 반환합니다.
+     *
+     * @param eventId
+     * @return
+     */
+    public long sequenceOf(String eventId) {
+        int separator = eventId.lastIndexOf(ID_SEPARATOR);
+        if (separator < 0 || !epoch.equals(eventId.substring(0, separator))) {
+            return UNKNOWN_SEQUENCE;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return UNKNOWN_SEQUENCE;
+        }
+    }
+
+    /**
+     * @param events       전달할 이벤트
+     * @param truncated    요청한 순번 이후의 이벤트 중 일부가 이미 덮어써졌는지 여부
+     * @param lastSequence 조회 시점의 마지막 순번
+     */
+    public record Slice(List<ChangeEventResponseDto> events, boolean truncated, long lastSequence) {
+
+    }
+}
@@ -0,0 +1,25 @@
+package books.management.domain.feed.dto.response;
+
+import books.management.domain.book.dto.response.BookResponseDto;
+import books.management.global.common.event.ChangeType;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class ChangeEventResponseDto {
+
+    private long sequence;
+    private String resource;
+    private ChangeType type;
+    private Long id;
+    private BookResponseDto book;
+
+    @Builder
+    private ChangeEventResponseDto(long sequence, String resource, ChangeType type, Long id, BookResponseDto book) {
+        this.sequence = sequence;
+        this.resource = resource;
+        this.type = type;
+        this.id = id;
+        this.book = book;
+    }
+}
@@ -0,0 +1,40 @@
+package books.management.domain.ingest.api;
+
+import books.management.domain.ingest.application.WriteBehindQueue;
+import books.management.domain.ingest.dto.response.WriteQueueStatusResponseDto;
+import books.management.domain.ingest.dto.response.WriteTicketResponseDto;
+import books.management.global.common.response.ApiResponse;
+import books.management.global.common.response.ResponseCode;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/writes")
+@RequiredArgsConstructor
+public class WriteBehindApi {
+
+    private final WriteBehindQueue writeBehindQueue;
+
+    @GetMapping
+    @Operation(summary = "등록 대기열 상태 조회 API",
+            description = """
+                    비동기 등록 모드의 대기열 상태를 조회하는 API 입니다.
+                    - queued는 대기열에서 저장을 기다리는 요청 수, in_flight는 현재 저장 중인 요청 수입니다.""")
+    public ApiResponse<WriteQueueStatusResponseDto> status() {
+        return ApiResponse.of(ResponseCode.GET, writeBehindQueue.status());
+    }
+
+    @GetMapping("/{ticketId}")
+    @Operation(summary = "등록 요청 처리 결과 조회 API",
+            description = """
+                    비동기 등록 모드에서 접수된 요청의 처리 결과를 조회하는 API 입니다.
+                    - status는 PENDING(저장 대기), SUCCEEDED(저장 완료), FAILED(저장 실패) 중 하나이며, 실패한 경우 reason에 사유를 반환합니다.
+                    - 처리 결과는 접수 후 1시간 동안 보관됩니다.""")
+    public ApiResponse<WriteTicketResponseDto> findTicket(@PathVariable String ticketId) {
+        return ApiResponse.of(ResponseCode.GET, writeBehindQueue.findTicket(ticketId));
+    }
+}
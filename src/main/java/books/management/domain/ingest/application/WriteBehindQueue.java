@@ -0,0 +1,254 @@
+package books.management.domain.ingest.application;
+
+import books.management.domain.author.application.AuthorService;
+import books.management.domain.author.dto.request.AuthorRequestDto;
+import books.management.domain.book.application.BookImportService;
+import books.management.domain.book.dto.request.BookRequestDto;
+import books.management.domain.book.dto.response.BookImportResponseDto;
+import books.management.domain.book.dto.response.BookImportResponseDto.RowError;
+import books.management.domain.ingest.dto.response.WriteQueueStatusResponseDto;
+import books.management.domain.ingest.dto.response.WriteTicketResponseDto;
+import books.management.global.error.exception.EntityNotFoundException;
+import books.management.global.error.exception.WriteRejectedException;
+import books.management.global.error.response.GlobalErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도서, 저자 생성 요청을 대기열에 담아 두고 하나의 작성 스레드가 배치 단위로 저장하는 write-behind 대기열입니다.
+ * <p>
+ * - books.write-behind.enabled=true 일 때만 사용되며, 요청은 검증을 마친 뒤 대기열에 담기고 즉시 처리 결과를 조회할 수 있는 티켓을 반환합니다.
+ * <p>
+ * - 대기열이 가득 차면 요청을 거절(429)하여 클라이언트가 속도를 줄이도록 합니다.
+ * <p>
+ * - 도서는 대량 등록과 같은 청크 저장 로직으로, 저자는 AuthorService.createAll로 배치마다 하나의 트랜잭션에서 저장하며, 고유성 검증도 배치 단위로 한 번에 수행합니다.
+ * <p>
+ * - 애플리케이션 종료 시에는 웹 서버가 요청 수신을 멈춘 뒤 대기열에 남은 요청을 모두 저장하고 종료합니다.
+ */
+@Slf4j
+@Component
+public class WriteBehindQueue implements SmartLifecycle {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final BookImportService bookImportService;
+    private final AuthorService authorService;
+    private final boolean enabled;
+    private final int capacity;
+    private final int batchSize;
+    private final BlockingQueue<PendingWrite> queue;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Cache<String, WriteTicketResponseDto> tickets = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(1))
+            .maximumSize(1_000_000)
+            .build();
+
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private Thread writer;
+
+    public WriteBehindQueue(BookImportService bookImportService, AuthorService authorService,
+                            @Value("${books.write-behind.enabled:false}") boolean enabled,
+                            @Value("${books.write-behind.queue-capacity:10000}") int capacity,
+                            @Value("${books.write-behind.batch-size:500}") int batchSize) {
+        this.bookImportService = bookImportService;
+        this.authorService = authorService;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.accepting = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public WriteTicketResponseDto submit(BookRequestDto request) {
+        return enqueue(request);
+    }
+
+    public WriteTicketResponseDto submit(AuthorRequestDto request) {
+        return enqueue(request);
+    }
+
+    public WriteTicketResponseDto findTicket(String ticketId) {
+        WriteTicketResponseDto ticket = tickets.getIfPresent(ticketId);
+        if (ticket == null) {
+            throw new EntityNotFoundException(GlobalErrorCode.WRITE_TICKET_NOT_FOUND);
+        }
+        return ticket;
+    }
+
+    public WriteQueueStatusResponseDto status() {
+        return WriteQueueStatusResponseDto.builder()
+                .enabled(enabled)
+                .capacity(capacity)
+                .queued(queue.size())
+                .inFlight(inFlight.get())
+                .build();
+    }
+
+    /**
+     * 요청을 대기열에 담습니다. - 담은 직후 종료가 시작되었다면, 작성 스레드가 이미 종료되었을 수 있으므로 요청을 대기열에서 다시 꺼내 거절합니다. - 이미 작성 스레드가 꺼내 갔다면 종료 전에
+     * 저장되므로 그대로 접수합니다.
+     *
+     * @param request
+     * @return
+     */
+    private WriteTicketResponseDto enqueue(Object request) {
+        if (!accepting) {
+            throw new WriteRejectedException(GlobalErrorCode.WRITE_QUEUE_CLOSED);
+        }
+        WriteTicketResponseDto ticket = WriteTicketResponseDto.pending(UUID.randomUUID().toString());
+        tickets.put(ticket.getTicketId(), ticket);
+        PendingWrite write = new PendingWrite(ticket.getTicketId(), request);
+        if (!queue.offer(write)) {
+            tickets.invalidate(ticket.getTicketId());
+            throw new WriteRejectedException(GlobalErrorCode.WRITE_QUEUE_FULL);
+        }
+        if (!accepting && queue.remove(write)) {
+            tickets.invalidate(ticket.getTicketId());
+            throw new WriteRejectedException(GlobalErrorCode.WRITE_QUEUE_CLOSED);
+        }
+        return ticket;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drain, "write-behind-writer");
+        writer.start();
+    }
+
+    /**
+     * 새 요청을 거절한 뒤 대기열에 남은 요청을 모두 저장할 때까지 기다립니다.
+     */
+    @Override
+    public void stop() {
+        accepting = false;
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.join(SHUTDOWN_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.warn("Write-behind writer did not finish within {}, {} writes left in the queue",
+                    SHUTDOWN_TIMEOUT, queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버가 요청 수신을 멈춘 다음에 종료되도록, 웹 서버의 생명주기보다 낮은 단계에서 실행합니다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drain() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                inFlight.set(batch.size());
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                inFlight.set(0);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingWrite> batch) {
+        List<PendingWrite> books = new ArrayList<>();
+        List<PendingWrite> authors = new ArrayList<>();
+        for (PendingWrite write : batch) {
+            (write.request() instanceof BookRequestDto ? books : authors).add(write);
+        }
+        if (!authors.isEmpty()) {
+            writeAuthors(authors);
+        }
+        if (!books.isEmpty()) {
+            writeBooks(books);
+        }
+    }
+
+    private void writeAuthors(List<PendingWrite> writes) {
+        List<AuthorRequestDto> requests = writes.stream()
+                .map(write -> (AuthorRequestDto) write.request())
+                .toList();
+        try {
+            Map<Integer, String> rejected = authorService.createAll(requests);
+            for (int i = 0; i < writes.size(); i++) {
+                complete(writes.get(i), rejected.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to write a batch of {} authors", writes.size(), e);
+            writes.forEach(write -> complete(write, GlobalErrorCode.AUTHOR_IMPORT_FAILED.getMessage()));
+        }
+    }
+
+    private void writeBooks(List<PendingWrite> writes) {
+        List<BookRequestDto> requests = writes.stream()
+                .map(write -> (BookRequestDto) write.request())
+                .toList();
+        try {
+            BookImportResponseDto result = bookImportService.importRequests(requests);
+            String[] reasons = new String[writes.size()];
+            for (RowError error : result.getErrors()) {
+                reasons[error.getRow() - 1] = error.getReason();
+            }
+            for (int i = 0; i < writes.size(); i++) {
+                complete(writes.get(i), reasons[i]);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to write a batch of {} books", writes.size(), e);
+            writes.forEach(write -> complete(write, GlobalErrorCode.BOOK_IMPORT_FAILED.getMessage()));
+        }
+    }
+
+    private void complete(PendingWrite write, String failureReason) {
+        tickets.put(write.ticketId(), failureReason == null
+                ? WriteTicketResponseDto.succeeded(write.ticketId())
+                : WriteTicketResponseDto.failed(write.ticketId(), failureReason));
+    }
+
+    record PendingWrite(String ticketId, Object request) {
+
+    }
+}
@@ -0,0 +1,5 @@
+package books.management.domain.ingest.domain;
+
+public enum WriteStatus {
+    PENDING, SUCCEEDED, FAILED
+}
@@ -0,0 +1,21 @@
+package books.management.domain.ingest.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class WriteQueueStatusResponseDto {
+
+    private boolean enabled;
+    private int capacity;
+    private int queued;
+    private int inFlight;
+
+    @Builder
+    private WriteQueueStatusResponseDto(boolean enabled, int capacity, int queued, int inFlight) {
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.queued = queued;
+        this.inFlight = inFlight;
+    }
+}
@@ -0,0 +1,42 @@
+package books.management.domain.ingest.dto.response;
+
+import books.management.domain.ingest.domain.WriteStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class WriteTicketResponseDto {
+
+    private String ticketId;
+    private WriteStatus status;
+    private String reason;
+
+    @Builder
+    private WriteTicketResponseDto(String ticketId, WriteStatus status, String reason) {
+        this.ticketId = ticketId;
+        this.status = status;
+        this.reason = reason;
+    }
+
+    public static WriteTicketResponseDto pending(String ticketId) {
+        return WriteTicketResponseDto.builder()
+                .ticketId(ticketId)
+                .status(WriteStatus.PENDING)
+                .build();
+    }
+
+    public static WriteTicketResponseDto succeeded(String ticketId) {
+        return WriteTicketResponseDto.builder()
+                .ticketId(ticketId)
+                .status(WriteStatus.SUCCEEDED)
+                .build();
+    }
+
+    public static WriteTicketResponseDto failed(String ticketId, String reason) {
+        return WriteTicketResponseDto.builder()
+                .ticketId(ticketId)
+                .status(WriteStatus.FAILED)
+                .reason(reason)
+                .build();
+    }
+}
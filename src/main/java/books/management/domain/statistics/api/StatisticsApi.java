@@ -0,0 +1,40 @@
+package books.management.domain.statistics.api;
+
+import books.management.domain.statistics.application.CatalogStatistics;
+import books.management.domain.statistics.dto.response.AuthorStatisticsResponseDto;
+import books.management.domain.statistics.dto.response.CatalogStatisticsResponseDto;
+import books.management.global.common.response.ApiResponse;
+import books.management.global.common.response.ResponseCode;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/statistics")
+@RequiredArgsConstructor
+public class StatisticsApi {
+
+    private final CatalogStatistics catalogStatistics;
+
+    @GetMapping
+    @Operation(summary = "도서 통계 조회 API",
+            description = """
+                    전체 도서 수, 전체 저자 수, 출간 연도별 도서 수를 조회하는 API 입니다.
+                    - 통계는 메모리에 유지되며 도서, 저자가 변경될 때마다 갱신되므로 데이터베이스를 조회하지 않습니다.
+                    - 출간일이 없는 도서는 books_without_publication_date 로 따로 집계합니다.""")
+    public ApiResponse<CatalogStatisticsResponseDto> getStatistics() {
+        return ApiResponse.of(ResponseCode.GET, catalogStatistics.getStatistics());
+    }
+
+    @GetMapping("/authors/{id}")
+    @Operation(summary = "저자별 도서 수 조회 API",
+            description = """
+                    해당 id를 가진 저자의 도서 수를 조회하는 API 입니다.
+                    - 통계는 메모리에 유지되며 도서, 저자가 변경될 때마다 갱신되므로 데이터베이스를 조회하지 않습니다.""")
+    public ApiResponse<AuthorStatisticsResponseDto> getAuthorStatistics(@PathVariable Long id) {
+        return ApiResponse.of(ResponseCode.GET, catalogStatistics.getAuthorStatistics(id));
+    }
+}
@@ -0,0 +1,94 @@
+package books.management.domain.statistics.application;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 도서 통계의 집계 상태입니다. - 도서마다 저자와 출간 연도를 기억하므로, 도서가 수정되거나 삭제될 때 이전 값의 카운터를 정확히 감소시킬 수 있습니다. - 카운터는 동시 조회가 가능한 맵에 보관하며,
+ * 변경은 CatalogStatistics가 한 스레드씩만 수행합니다.
+ */
+class CatalogCounts {
+
+    private final Map<Long, Placement> placements = new ConcurrentHashMap<>();
+    private final Map<Long, Long> booksPerAuthor = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> booksPerYear = new ConcurrentHashMap<>();
+    private volatile long undatedBooks;
+
+    void putAuthor(Long authorId) {
+        booksPerAuthor.putIfAbsent(authorId, 0L);
+    }
+
+    void removeAuthor(Long authorId) {
+        booksPerAuthor.remove(authorId);
+    }
+
+    boolean containsAuthor(Long authorId) {
+        return booksPerAuthor.containsKey(authorId);
+    }
+
+    void putBook(Long bookId, Placement placement) {
+        removeBook(bookId);
+        placements.put(bookId, placement);
+        booksPerAuthor.merge(placement.authorId(), 1L, Long::sum);
+        if (placement.year() == null) {
+            undatedBooks++;
+        } else {
+            booksPerYear.merge(placement.year(), 1L, Long::sum);
+        }
+    }
+
+    void removeBook(Long bookId) {
+        Placement placement = placements.remove(bookId);
+        if (placement == null) {
+            return;
+        }
+        booksPerAuthor.computeIfPresent(placement.authorId(), (id, count) -> count - 1);
+        if (placement.year() == null) {
+            undatedBooks--;
+        } else {
+            booksPerYear.computeIfPresent(placement.year(), (year, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    Placement placementOf(Long bookId) {
+        return placements.get(bookId);
+    }
+
+    long totalBooks() {
+        return placements.size();
+    }
+
+    long totalAuthors() {
+        return booksPerAuthor.size();
+    }
+
+    long undatedBooks() {
+        return undatedBooks;
+    }
+
+    Long booksOf(Long authorId) {
+        return booksPerAuthor.get(authorId);
+    }
+
+    Map<Integer, Long> booksPerYear() {
+        return booksPerYear;
+    }
+
+    boolean sameAs(CatalogCounts other) {
+        return placements.equals(other.placements)
+                && booksPerAuthor.equals(other.booksPerAuthor)
+                && booksPerYear.equals(other.booksPerYear)
+                && undatedBooks == other.undatedBooks;
+    }
+
+    /**
+     * 통계 집계에 필요한 도서의 저자와 출간 연도입니다. - 출간일이 없는 도서는 연도가 null입니다.
+     */
+    record Placement(Long authorId, Integer year) {
+
+        Placement {
+            Objects.requireNonNull(authorId);
+        }
+    }
+}
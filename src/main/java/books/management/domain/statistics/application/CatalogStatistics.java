@@ -0,0 +1,193 @@
+package books.management.domain.statistics.application;
+
+import books.management.domain.author.dao.AuthorRepository;
+import books.management.domain.author.event.AuthorChangedEvent;
+import books.management.domain.book.dao.BookRepository;
+import books.management.domain.book.dto.projection.BookCatalogView;
+import books.management.domain.book.event.BookChangedEvent;
+import books.management.domain.statistics.application.CatalogCounts.Placement;
+import books.management.domain.statistics.dto.response.AuthorStatisticsResponseDto;
+import books.management.domain.statistics.dto.response.CatalogStatisticsResponseDto;
+import books.management.global.common.event.ChangeType;
+import books.management.global.error.exception.EntityNotFoundException;
+import books.management.global.error.response.GlobalErrorCode;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 저자별, 출간 연도별 도서 수와 전체 도서, 저자 수를 메모리에 유지하는 도서 통계입니다.
+ * <p>
+ * - 애플리케이션 시작 시 도서 테이블과 저자 테이블을 한 번씩 스캔하여 생성하며, 이후에는 도서, 저자 변경 이벤트(저자 삭제로 함께 삭제된 도서 포함)로 카운터를 증감하므로 조회 비용은 O(1)입니다.
+ * <p>
+ * - 이벤트 누락 등으로 어긋난 값을 바로잡기 위해 books.statistics.reconcile-interval 마다 새로 스캔한 결과로 교체합니다. 스캔 중에 변경된 도서와 저자는 이벤트로 반영된 현재 값을 사용하므로,
+ * 스캔에서 읽은 이전 값으로 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Component
+public class CatalogStatistics {
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Object scanLock = new Object();
+    private volatile CatalogCounts counts = new CatalogCounts();
+    private Set<Long> booksChangedDuringScan;
+    private Set<Long> authorsChangedDuringScan;
+
+    public CatalogStatistics(BookRepository bookRepository, AuthorRepository authorRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+        log.info("Catalog statistics built: {} books, {} authors", counts.totalBooks(), counts.totalAuthors());
+    }
+
+    @Scheduled(initialDelayString = "${books.statistics.reconcile-interval:PT10M}",
+            fixedDelayString = "${books.statistics.reconcile-interval:PT10M}")
+    public void reconcile() {
+        if (!rebuild()) {
+            log.warn("Catalog statistics drifted from the database and were reconciled: {} books, {} authors",
+                    counts.totalBooks(), counts.totalAuthors());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBookChanged(BookChangedEvent event) {
+        if (booksChangedDuringScan != null) {
+            booksChangedDuringScan.add(event.getBookId());
+        }
+        if (event.getType() == ChangeType.DELETED) {
+            counts.removeBook(event.getBookId());
+        } else {
+            counts.putBook(event.getBookId(), placementOf(event.getBook().getAuthorId(),
+                    event.getBook().getPublicationDate() == null
+                            ? null
+                            : LocalDate.parse(event.getBook().getPublicationDate())));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onAuthorChanged(AuthorChangedEvent event) {
+        if (authorsChangedDuringScan != null) {
+            authorsChangedDuringScan.add(event.getAuthorId());
+            booksChangedDuringScan.addAll(event.getDeletedBookIds());
+        }
+        switch (event.getType()) {
+            case CREATED -> counts.putAuthor(event.getAuthorId());
+            case DELETED -> {
+                event.getDeletedBookIds().forEach(counts::removeBook);
+                counts.removeAuthor(event.getAuthorId());
+            }
+            default -> {
+            }
+        }
+    }
+
+    public CatalogStatisticsResponseDto getStatistics() {
+        CatalogCounts current = counts;
+        return CatalogStatisticsResponseDto.builder()
+                .totalBooks(current.totalBooks())
+                .totalAuthors(current.totalAuthors())
+                .booksWithoutPublicationDate(current.undatedBooks())
+                .booksPerYear(new TreeMap<>(current.booksPerYear()))
+                .build();
+    }
+
+    public AuthorStatisticsResponseDto getAuthorStatistics(Long authorId) {
+        Long bookCount = counts.booksOf(authorId);
+        if (bookCount == null) {
+            throw new EntityNotFoundException(GlobalErrorCode.AUTHOR_NOT_FOUND);
+        }
+        return new AuthorStatisticsResponseDto(authorId, bookCount);
+    }
+
+    /**
+     * 도서, 저자 테이블을 스캔하여 통계를 새로 생성하고 현재 통계와 교체합니다.
+     *
+     * @return 새로 생성한 통계가 기존 통계와 같은지 여부
+     */
+    boolean rebuild() {
+        synchronized (scanLock) {
+            startScan();
+            CatalogCounts scanned = new CatalogCounts();
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<Long> authorIds = authorRepository.streamAllIds()) {
+                        authorIds.forEach(scanned::putAuthor);
+                    }
+                    try (Stream<BookCatalogView> books = bookRepository.streamAllCatalogViews()) {
+                        books.forEach(book -> scanned.putBook(book.id(),
+                                placementOf(book.authorId(), book.publicationDate())));
+                    }
+                });
+            } catch (RuntimeException e) {
+                finishScan(null);
+                throw e;
+            }
+            return finishScan(scanned);
+        }
+    }
+
+    private synchronized void startScan() {
+        booksChangedDuringScan = new HashSet<>();
+        authorsChangedDuringScan = new HashSet<>();
+    }
+
+    /**
+     * 스캔 중에 변경된 도서, 저자는 이벤트로 반영된 현재 값으로 덮어쓴 뒤 스캔 결과로 교체합니다.
+     */
+    private synchronized boolean finishScan(CatalogCounts scanned) {
+        try {
+            if (scanned == null) {
+                return true;
+            }
+            for (Long authorId : authorsChangedDuringScan) {
+                if (counts.containsAuthor(authorId)) {
+                    scanned.putAuthor(authorId);
+                }
+            }
+            for (Long bookId : booksChangedDuringScan) {
+                Placement placement = counts.placementOf(bookId);
+                if (placement == null) {
+                    scanned.removeBook(bookId);
+                } else {
+                    scanned.putBook(bookId, placement);
+                }
+            }
+            for (Long authorId : authorsChangedDuringScan) {
+                if (!counts.containsAuthor(authorId)) {
+                    scanned.removeAuthor(authorId);
+                }
+            }
+
+            boolean unchanged = scanned.sameAs(counts);
+            counts = scanned;
+            return unchanged;
+        } finally {
+            booksChangedDuringScan = null;
+            authorsChangedDuringScan = null;
+        }
+    }
+
+    private static Placement placementOf(Long authorId, LocalDate publicationDate) {
+        return new Placement(authorId, publicationDate == null ? null : publicationDate.getYear());
+    }
+}
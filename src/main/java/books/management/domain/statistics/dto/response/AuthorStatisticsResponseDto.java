@@ -0,0 +1,15 @@
+package books.management.domain.statistics.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class AuthorStatisticsResponseDto {
+
+    private Long authorId;
+    private long bookCount;
+
+    public AuthorStatisticsResponseDto(Long authorId, long bookCount) {
+        this.authorId = authorId;
+        this.bookCount = bookCount;
+    }
+}
@@ -0,0 +1,23 @@
+package books.management.domain.statistics.dto.response;
+
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class CatalogStatisticsResponseDto {
+
+    private long totalBooks;
+    private long totalAuthors;
+    private long booksWithoutPublicationDate;
+    private Map<Integer, Long> booksPerYear;
+
+    @Builder
+    private CatalogStatisticsResponseDto(long totalBooks, long totalAuthors, long booksWithoutPublicationDate,
+                                         Map<Integer, Long> booksPerYear) {
+        this.totalBooks = totalBooks;
+        this.totalAuthors = totalAuthors;
+        this.booksWithoutPublicationDate = booksWithoutPublicationDate;
+        this.booksPerYear = booksPerYear;
+    }
+}
@@ -0,0 +1,9 @@
+package books.management.global.common.cache;
+
+/**
+ * 엔티티의 버전을 함께 가지는 캐시 값입니다. - VersionedCaffeineCache는 이 버전으로 오래된 값이 캐시에 다시 적재되는 것을 막습니다.
+ */
+public interface Versioned {
+
+    Long getVersion();
+}
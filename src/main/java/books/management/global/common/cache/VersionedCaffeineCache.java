@@ -0,0 +1,83 @@
+package books.management.global.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * 값의 버전을 비교하여, 무효화 이후에 오래된 값이 다시 캐시에 적재되지 않도록 하는 Caffeine 캐시입니다.
+ * <p>
+ * - 캐시에 없는 값을 조회하는 동안 다른 트랜잭션이 커밋되어 캐시가 무효화되면, 조회를 마친 쪽이 커밋 이전의 값을 다시 적재할 수 있습니다. replica에서 조회하는 경우 복제 지연만큼 이 구간이
+ * 길어집니다.
+ * <p>
+ * - 이를 막기 위해 무효화할 때 커밋된 버전을 키별 하한으로 기록하고, 하한보다 낮은 버전의 값이나 이미 적재된 값보다 낮은 버전의 값은 적재하지 않습니다. 삭제된 값은 Long.MAX_VALUE를 하한으로
+ * 기록합니다.
+ * <p>
+ * - 하한 기록과 적재 여부 판단은 같은 키에 대한 compute 안에서 실행되므로, 두 작업이 서로 끼어들지 않습니다.
+ * <p>
+ * - 하한은 retention 동안만 보관합니다. 그보다 오래 걸린 조회나 복제 지연은 막지 못합니다.
+ */
+public class VersionedCaffeineCache extends CaffeineCache {
+
+    private static final long MAXIMUM_FLOORS = 100_000;
+
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Long> floors;
+
+    public VersionedCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                  boolean allowNullValues, Duration retention) {
+        super(name, cache, allowNullValues);
+        this.floors = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .maximumSize(MAXIMUM_FLOORS)
+                .build();
+    }
+
+    /**
+     * 캐시가 VersionedCaffeineCache라면 버전 하한을 기록하며 무효화하고, 그렇지 않다면 키만 무효화합니다.
+     *
+     * @param cache
+     * @param key
+     * @param version 커밋된 버전. 삭제되었다면 Long.MAX_VALUE
+     */
+    public static void evict(Cache cache, Object key, long version) {
+        if (cache instanceof VersionedCaffeineCache versioned) {
+            versioned.evict(key, version);
+        } else if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (!(value instanceof Versioned loaded) || loaded.getVersion() == null) {
+            super.put(key, value);
+            return;
+        }
+        long version = loaded.getVersion();
+        getNativeCache().asMap().compute(key, (k, cached) -> {
+            Long floor = floors.getIfPresent(k);
+            if (floor != null && version < floor) {
+                return cached;
+            }
+            if (cached instanceof Versioned current && current.getVersion() != null
+                    && current.getVersion() > version) {
+                return cached;
+            }
+            return toStoreValue(value);
+        });
+    }
+
+    /**
+     * 키를 무효화하고, 이후 version보다 낮은 버전의 값은 적재하지 않습니다.
+     *
+     * @param key
+     * @param version
+     */
+    public void evict(Object key, long version) {
+        getNativeCache().asMap().compute(key, (k, cached) -> {
+            floors.asMap().merge(k, version, Math::max);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,10 @@
+package books.management.global.common.event;
+
+public enum ChangeType {
+
+    CREATED,
+    UPDATED,
+    DELETED,
+    ;
+
+}
@@ -0,0 +1,119 @@
+package books.management.global.common.idempotency;
+
+import books.management.global.error.exception.BusinessException;
+import books.management.global.error.exception.InvalidValueException;
+import books.management.global.error.response.GlobalErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 헤더로 전달된 키와 처리 결과를 보관하여, 같은 키로 재시도된 요청에 처음 처리 결과를 그대로 반환합니다.
+ * <p>
+ * - 결과는 최대 books.idempotency.maximum-size 개까지, books.idempotency.ttl 동안 메모리에 보관하므로 재시도 요청은 데이터베이스를 조회하지 않습니다.
+ * <p>
+ * - 같은 키의 요청이 동시에 들어오면 먼저 도착한 요청만 처리하고, 나머지 요청은 그 결과를 기다렸다가 함께 반환합니다.
+ * <p>
+ * - 확정된 비즈니스 예외(중복 ISBN 등 4xx)도 처리 결과로 보관하여 재시도 시 같은 오류를 반환하지만, 429, 5xx 오류(대기열 가득 참 등)와 그 외의 예외는 일시적인 오류일 수 있으므로 보관하지 않고
+ * 재시도를 허용합니다.
+ * <p>
+ * - 같은 키로 다른 내용의 요청이 들어오면 처음 요청의 결과를 반환하지 않고 예외를 발생시킵니다.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, IdempotentResult> results;
+
+    public IdempotencyStore(ObjectMapper objectMapper,
+                            @Value("${books.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${books.idempotency.maximum-size:100000}") long maximumSize) {
+        this.objectMapper = objectMapper;
+        this.results = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 키가 없으면 요청을 그대로 처리하고, 키가 있으면 처음 한 번만 처리한 뒤 결과를 보관합니다.
+     *
+     * @param scope   키를 구분하는 범위(API 단위)
+     * @param key     Idempotency-Key 헤더 값
+     * @param request 같은 키로 다른 요청이 들어왔는지 확인하기 위한 요청 본문
+     * @param action  실제 요청 처리
+     * @return
+     */
+    public <T> T execute(String scope, String key, Object request, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidValueException(GlobalErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        String cacheKey = scope + ':' + key;
+        IdempotentResult created = new IdempotentResult(fingerprint(request), new CompletableFuture<>());
+        IdempotentResult existing = results.asMap().putIfAbsent(cacheKey, created);
+        if (existing != null) {
+            if (!existing.fingerprint().equals(created.fingerprint())) {
+                throw new InvalidValueException(GlobalErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            return await(existing);
+        }
+
+        try {
+            T response = action.get();
+            created.response().complete(response);
+            return response;
+        } catch (BusinessException e) {
+            if (!isFinal(e)) {
+                results.asMap().remove(cacheKey, created);
+            }
+            created.response().completeExceptionally(e);
+            throw e;
+        } catch (RuntimeException | Error e) {
+            results.asMap().remove(cacheKey, created);
+            created.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private boolean isFinal(BusinessException e) {
+        int status = e.getErrorCode().getStatus();
+        return status < 500 && status != 429;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(IdempotentResult result) {
+        try {
+            return (T) result.response().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize request for idempotency check", e);
+        }
+    }
+
+    private record IdempotentResult(String fingerprint, CompletableFuture<Object> response) {
+
+    }
+}
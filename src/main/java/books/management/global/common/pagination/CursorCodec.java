@@ -0,0 +1,86 @@
+package books.management.global.common.pagination;
+
+import books.management.global.error.exception.InvalidValueException;
+import books.management.global.error.response.GlobalErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션에서 사용하는 커서 값을 인코딩/디코딩합니다. - 클라이언트는 커서의 내부 구조를 알 필요가 없도록 Base64(URL-safe) 문자열로 전달받습니다.
+ */
+public final class CursorCodec {
+
+    public static final int MAX_LIMIT = 100;
+
+    private static final char SEPARATOR = '|';
+
+    private CursorCodec() {
+    }
+
+    public static String encodeId(Long id) {
+        return encode(String.valueOf(id));
+    }
+
+    public static String encodeDateAndId(LocalDate date, Long id) {
+        return encode(date.toString() + SEPARATOR + id);
+    }
+
+    /**
+     * 커서 값에서 마지막으로 조회한 id를 꺼냅니다. - 커서가 없다면 첫 페이지를 의미하므로 0을 반환합니다.
+     *
+     * @param cursor
+     * @return
+     */
+    public static long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Long.parseLong(decoded);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidValueException(GlobalErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서 값에서 마지막으로 조회한 (날짜, id)를 꺼냅니다. - 커서가 없다면 첫 페이지를 의미하므로 null을 반환합니다.
+     *
+     * @param cursor
+     * @return
+     */
+    public static DateIdCursor decodeDateAndId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidValueException(GlobalErrorCode.INVALID_CURSOR);
+            }
+            return new DateIdCursor(LocalDate.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidValueException(GlobalErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 요청한 페이지 크기를 1 ~ MAX_LIMIT 범위로 보정합니다.
+     *
+     * @param limit
+     * @return
+     */
+    public static int normalizeLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,10 @@
+package books.management.global.common.pagination;
+
+import java.time.LocalDate;
+
+/**
+ * (날짜, id) 복합 키 기반 페이지네이션에서 마지막으로 조회한 행의 위치입니다.
+ */
+public record DateIdCursor(LocalDate date, Long id) {
+
+}
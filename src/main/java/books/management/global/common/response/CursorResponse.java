@@ -0,0 +1,46 @@
+package books.management.global.common.response;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class CursorResponse<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * limit + 1 개를 조회한 결과로 다음 페이지 존재 여부를 판단하고, 마지막 원소로부터 다음 커서를 생성합니다.
+     *
+     * @param fetched
+     * @param limit
+     * @param cursorOf
+     * @return
+     */
+    public static <T> CursorResponse<T> of(List<T> fetched, int limit, Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > limit;
+        return of(hasNext ? fetched.subList(0, limit) : fetched, hasNext, cursorOf);
+    }
+
+    /**
+     * 이미 페이지 크기로 잘라낸 결과와 다음 페이지 존재 여부로 응답을 생성합니다.
+     *
+     * @param content
+     * @param hasNext
+     * @param cursorOf
+     * @return
+     */
+    public static <T> CursorResponse<T> of(List<T> content, boolean hasNext, Function<T, String> cursorOf) {
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return CursorResponse.<T>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+}
@@ -9,8 +9,10 @@ public enum ResponseCode {
 
     GET(200, "조회 성공"),
     CREATED(201, "생성 성공"),
+    ACCEPTED(202, "등록 요청 접수"),
     UPDATED(200, "수정 성공"),
     DELETED(200, "삭제 성공"),
+    IMPORTED(200, "대량 등록 처리 완료"),
     ;
 
     private final int status;
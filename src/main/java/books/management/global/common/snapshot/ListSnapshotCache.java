@@ -0,0 +1,192 @@
+package books.management.global.common.snapshot;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 목록 조회 응답을 JSON으로 직렬화하고 gzip으로 압축한 바이트 스냅샷으로 보관하여, 다음 쓰기 전까지의 같은 요청에 그대로 전송합니다.
+ * <p>
+ * - 클라이언트가 gzip을 허용하면 압축된 바이트를, 그렇지 않으면 압축하지 않은 바이트를 다시 직렬화하거나 압축하지 않고 그대로 씁니다.
+ * <p>
+ * - 스냅샷은 처음 요청될 때 생성하며, 같은 스냅샷을 동시에 요청하면 먼저 도착한 요청만 생성하고 나머지 요청은 그 결과를 기다립니다.
+ * <p>
+ * - 도서, 저자가 변경되면 invalidateAll()로 세대 번호를 올려 이전 스냅샷을 모두 무효화합니다. 무효화 이전에 시작된 생성 결과는 이전 세대로 저장되므로 다시 사용되지 않습니다.
+ * <p>
+ * - JSON이 아닌 형식(Smile, CBOR 등)을 우선하는 요청은 스냅샷을 사용하지 않습니다.
+ */
+@Component
+public class ListSnapshotCache {
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final AsyncCache<SnapshotKey, Snapshot> snapshots;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ListSnapshotCache(ObjectMapper objectMapper,
+                             @Value("${books.list-snapshot.enabled:true}") boolean enabled,
+                             @Value("${books.list-snapshot.maximum-size:64MB}") DataSize maximumSize) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .<SnapshotKey, Snapshot>weigher((key, snapshot) -> snapshot.json().length + snapshot.gzip().length)
+                .buildAsync();
+    }
+
+    /**
+     * 요청에 맞는 스냅샷을 응답으로 씁니다. - 스냅샷이 없으면 body로 응답 본문을 만들어 스냅샷을 생성합니다.
+     *
+     * @param scope 스냅샷을 구분하는 범위(API 단위)
+     * @param query 같은 범위 안에서 스냅샷을 구분하는 조회 조건
+     * @param body  응답 본문 생성
+     * @return 스냅샷으로 응답했는지 여부. false라면 호출하는 쪽에서 직접 응답해야 합니다.
+     */
+    public boolean serve(String scope, String query, HttpServletRequest request, HttpServletResponse response,
+                         Supplier<?> body) throws IOException {
+        if (!enabled || !prefersJson(request.getHeader(HttpHeaders.ACCEPT))) {
+            return false;
+        }
+
+        Snapshot snapshot = getOrCreate(new SnapshotKey(generation.get(), scope, query), body);
+        byte[] bytes = snapshot.json();
+        if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            bytes = snapshot.gzip();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+        return true;
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        snapshots.synchronous().invalidateAll();
+    }
+
+    private Snapshot getOrCreate(SnapshotKey key, Supplier<?> body) {
+        CompletableFuture<Snapshot> created = new CompletableFuture<>();
+        CompletableFuture<Snapshot> existing = snapshots.asMap().putIfAbsent(key, created);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            Snapshot snapshot = create(body.get());
+            created.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException | Error e) {
+            snapshots.asMap().remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Snapshot await(CompletableFuture<Snapshot> snapshot) {
+        try {
+            return snapshot.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Snapshot create(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            return new Snapshot(json, compressed.toByteArray());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize list snapshot", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * JSON을 다른 형식보다 높은 우선순위로 허용하는지 확인합니다. - Accept 헤더가 없으면 JSON으로 응답합니다.
+     */
+    static boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        double json = 0;
+        double other = 0;
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                json = Math.max(json, mediaType.getQualityValue());
+            } else {
+                other = Math.max(other, mediaType.getQualityValue());
+            }
+        }
+        return json > 0 && json > other;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().replace(" ", "");
+                if (parameter.startsWith("q=") && !isPositive(parameter.substring(2))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isPositive(String quality) {
+        try {
+            return Double.parseDouble(quality) > 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private record SnapshotKey(long generation, String scope, String query) {
+
+    }
+
+    private record Snapshot(byte[] json, byte[] gzip) {
+
+    }
+}
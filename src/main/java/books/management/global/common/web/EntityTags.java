@@ -0,0 +1,38 @@
+package books.management.global.common.web;
+
+/**
+ * 엔티티의 버전 값을 HTTP ETag로 변환합니다. - 버전 값이 곧 ETag이므로, 응답 본문을 직렬화하지 않고도 리소스의 변경 여부를 판단할 수 있습니다.
+ */
+public final class EntityTags {
+
+    private static final long UNMATCHABLE_VERSION = -1L;
+
+    private EntityTags() {
+    }
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * If-Match 헤더 값에서 클라이언트가 기대하는 버전을 꺼냅니다. - 헤더가 없거나 "*"라면 버전을 검증하지 않으므로 null을 반환합니다. - If-Match는 강한 비교를 사용하므로 약한 ETag나 형식이 올바르지 않은
+     * 값은 어떤 버전과도 일치하지 않는 값으로 처리합니다.
+     *
+     * @param ifMatch
+     * @return
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/") || tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return UNMATCHABLE_VERSION;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return UNMATCHABLE_VERSION;
+        }
+    }
+}
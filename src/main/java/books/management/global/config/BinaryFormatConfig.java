@@ -0,0 +1,39 @@
+package books.management.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * JSON 외에 바이너리 형식(Smile, CBOR)으로도 요청과 응답을 주고받을 수 있도록 HTTP 메시지 컨버터를 등록합니다.
+ * <p>
+ * - Accept 헤더가 application/x-jackson-smile 또는 application/cbor 이면 해당 형식으로 응답하며, 그 외(또는 Accept 헤더가 없는 경우)에는 기존과 같이 JSON으로
+ * 응답합니다.
+ * <p>
+ * - 스프링 MVC가 기본으로 등록하는 컨버터는 spring.jackson.* 설정이 적용되지 않으므로, 애플리케이션의 Jackson2ObjectMapperBuilder로 만든 ObjectMapper를 사용하여 JSON과 같은
+ * 필드 이름(SNAKE_CASE)과 규칙을 따르도록 교체합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BinaryFormatConfig {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper objectMapper = builder.createXmlMapper(false)
+                .factory(new SmileFactory())
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper objectMapper = builder.createXmlMapper(false)
+                .factory(new CBORFactory())
+                .build();
+        return new MappingJackson2CborHttpMessageConverter(objectMapper);
+    }
+}
@@ -0,0 +1,24 @@
+package books.management.global.config;
+
+import books.management.global.metrics.RequestSqlStatisticsCollector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 지표 수집 설정입니다. - 요청 단위 SQL 집계를 위해 Hibernate에 StatementInspector와 Interceptor를 등록합니다. - 세션 팩토리 전체의 Hibernate 통계는
+ * hibernate.generate_statistics 설정과 hibernate-micrometer를 통해 hibernate.* 지표로 노출됩니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer requestSqlStatisticsCustomizer() {
+        RequestSqlStatisticsCollector collector = new RequestSqlStatisticsCollector();
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, collector);
+            properties.put(AvailableSettings.INTERCEPTOR, collector);
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package books.management.global.config;
+
+import books.management.global.datasource.ConnectionLimitingDataSource;
+import books.management.global.datasource.ReadWriteRoutingDataSource;
+import books.management.global.datasource.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기/쓰기 분리 모드(books.datasource.routing.enabled=true) 설정입니다. - primary 커넥션 풀은 spring.datasource.* 를, replica 커넥션 풀은
+ * books.datasource.routing.replica-urls 의 주소와 spring.datasource.* 의 나머지 설정을 사용합니다. - 커넥션 풀은 대상별로 이름(primary, replica-1, ...)을 가지며,
+ * hikaricp.* 지표의 pool 태그로 구분됩니다. - 가상 스레드 모드에서는 각 커넥션 풀을 ConnectionLimitingDataSource로 감싸 대상별로 동시 요청 수를 제한합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "books.datasource.routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(DataSourceProperties properties, Environment environment,
+                                                       MeterRegistry meterRegistry) {
+        List<String> replicaUrls = Binder.get(environment)
+                .bind("books.datasource.routing.replica-urls", Bindable.listOf(String.class))
+                .orElse(List.of());
+        DataSource primary = pool(ReadWriteRoutingDataSource.PRIMARY, properties.determineUrl(), properties,
+                environment, meterRegistry);
+        List<DataSource> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            replicas.add(pool(ReadWriteRoutingDataSource.replicaKey(i), replicaUrls.get(i), properties, environment,
+                    meterRegistry));
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter();
+    }
+
+    private DataSource pool(String name, String url, DataSourceProperties properties, Environment environment,
+                            MeterRegistry meterRegistry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        if (!environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            return pool;
+        }
+        Duration acquireTimeout = environment.getProperty("books.datasource.acquire-timeout", Duration.class,
+                Duration.ofSeconds(30));
+        return new ConnectionLimitingDataSource(pool, pool.getMaximumPoolSize(), acquireTimeout);
+    }
+}
@@ -0,0 +1,44 @@
+package books.management.global.config;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * springdoc 빈의 초기화를 첫 사용 시점(/v3/api-docs, /swagger-ui 첫 요청)까지 미룹니다. - 애플리케이션 시작 시간에서 API 문서 관련 빈의 생성 비용을 제외하기 위해 사용합니다. -
+ * books.startup.lazy-springdoc=false 로 비활성화할 수 있습니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "books.startup.lazy-springdoc", havingValue = "true", matchIfMissing = true)
+public class SpringdocConfig {
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    @Bean
+    public static BeanFactoryPostProcessor lazySpringdocBeanFactoryPostProcessor() {
+        return beanFactory -> {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                if (definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+                    continue;
+                }
+                Class<?> type = beanFactory.getType(beanName, false);
+                if (type == null || SmartInitializingSingleton.class.isAssignableFrom(type)) {
+                    continue;
+                }
+                String factoryBeanName = definition.getFactoryBeanName();
+                Class<?> factoryType = factoryBeanName == null ? null : beanFactory.getType(factoryBeanName, false);
+                if (isSpringdoc(type) || (factoryType != null && isSpringdoc(factoryType))) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static boolean isSpringdoc(Class<?> type) {
+        return type.getName().startsWith(SPRINGDOC_PACKAGE);
+    }
+}
@@ -0,0 +1,47 @@
+package books.management.global.config;
+
+import books.management.global.datasource.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true) 설정입니다. - 요청은 Tomcat의 가상 스레드에서 처리되며, DataSource는 커넥션 풀 크기만큼의 허가를 가진
+ * ConnectionLimitingDataSource로 감싸 동시에 커넥션을 요청하는 스레드 수를 제한합니다. - 허가 수는 Hikari의 maximum-pool-size를 따르며, 대기 시간은
+ * books.datasource.acquire-timeout 으로 설정합니다. - 다른 DataSource를 감싸는 DataSource(읽기/쓰기 분리 모드의 라우팅 DataSource 등)는 대상 커넥션 풀이 이미 제한되므로
+ * 감싸지 않습니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final int DEFAULT_MAX_CONNECTIONS = 10;
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        Duration acquireTimeout = environment.getProperty("books.datasource.acquire-timeout", Duration.class,
+                Duration.ofSeconds(30));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)
+                        || bean instanceof DelegatingDataSource
+                        || bean instanceof AbstractRoutingDataSource) {
+                    return bean;
+                }
+                int maxConnections = bean instanceof HikariDataSource hikari
+                        ? hikari.getMaximumPoolSize()
+                        : DEFAULT_MAX_CONNECTIONS;
+                return new ConnectionLimitingDataSource(dataSource, maxConnections, acquireTimeout);
+            }
+        };
+    }
+}
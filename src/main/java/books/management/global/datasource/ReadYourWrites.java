@@ -0,0 +1,25 @@
+package books.management.global.datasource;
+
+/**
+ * 요청 스레드 단위로 읽기 전용 트랜잭션도 primary 데이터베이스에서 조회하도록 지정합니다. - 복제 지연 때문에 방금 반영한 변경이 replica에서 보이지 않을 수 있으므로, 쓰기 직후의 조회처럼 최신
+ * 데이터가 필요한 요청에서 사용합니다. - ReadYourWritesFilter가 요청 헤더에 따라 요청 시작 시 지정하고 종료 시 제거합니다.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> REQUESTED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    static void request() {
+        REQUESTED.set(Boolean.TRUE);
+    }
+
+    static void clear() {
+        REQUESTED.remove();
+    }
+
+    public static boolean isRequested() {
+        return REQUESTED.get() != null;
+    }
+}
@@ -6,6 +6,7 @@ import books.management.global.error.response.ErrorResponse;
 import books.management.global.error.response.ErrorResponse.FieldError;
 import books.management.global.error.response.GlobalErrorCode;
 import java.util.List;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -31,6 +32,11 @@ public class GlobalExceptionHandler {
         return ErrorResponse.of(GlobalErrorCode.METHOD_NOT_ALLOWED);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ErrorResponse handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        return ErrorResponse.of(GlobalErrorCode.CONCURRENT_MODIFICATION);
+    }
+
     @ExceptionHandler(BusinessException.class)
     protected ErrorResponse handleBusinessException(BusinessException e) {
         ErrorCode errorCode = e.getErrorCode();
@@ -0,0 +1,10 @@
+package books.management.global.error.exception;
+
+import books.management.global.error.response.ErrorCode;
+
+public class PreconditionFailedException extends BusinessException {
+
+    public PreconditionFailedException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
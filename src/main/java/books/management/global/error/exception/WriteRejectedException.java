@@ -0,0 +1,10 @@
+package books.management.global.error.exception;
+
+import books.management.global.error.response.ErrorCode;
+
+public class WriteRejectedException extends BusinessException {
+
+    public WriteRejectedException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
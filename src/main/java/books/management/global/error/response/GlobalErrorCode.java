@@ -11,12 +11,26 @@ public enum GlobalErrorCode implements ErrorCode {
     METHOD_ARGUMENT_NOT_VALID(400, "요청 값이 유효하지 않습니다."),
     HTTP_MESSAGE_NOT_READABLE(400, "요청 값이 유효하지 않습니다. 입력 형식이 올바른지 확인하세요."),
     METHOD_NOT_ALLOWED(405, "허용되지 않은 메소드입니다."),
+    INVALID_CURSOR(400, "유효하지 않은 커서 값입니다."),
+    INVALID_SORT(400, "지원하지 않는 정렬 조건입니다."),
+    INVALID_IDEMPOTENCY_KEY(400, "Idempotency-Key는 1자 이상 255자 이하여야 합니다."),
+    IDEMPOTENCY_KEY_REUSED(422, "같은 Idempotency-Key로 다른 내용의 요청을 보낼 수 없습니다."),
+    INVALID_IMPORT_FORMAT(400, "대량 등록 요청의 형식이 올바르지 않습니다."),
 
     AUTHOR_NOT_FOUND(400, "저자를 찾을 수 없습니다."),
     BOOK_NOT_FOUND(400, "책을 찾을 수 없습니다."),
+    WRITE_TICKET_NOT_FOUND(400, "등록 요청을 찾을 수 없습니다. 처리 결과는 일정 시간 동안만 보관됩니다."),
 
     BOOK_ISBN_DUPLICATION(400, "이미 존재하는 ISBN입니다."),
     AUTHOR_EMAIL_DUPLICATION(400, "이미 존재하는 이메일입니다."),
+
+    VERSION_MISMATCH(412, "요청한 버전과 현재 버전이 일치하지 않습니다. 다시 조회한 후 시도하세요."),
+    CONCURRENT_MODIFICATION(409, "다른 요청에 의해 이미 수정되었습니다. 다시 조회한 후 시도하세요."),
+
+    BOOK_IMPORT_FAILED(500, "도서를 저장하는 중 오류가 발생하였습니다."),
+    AUTHOR_IMPORT_FAILED(500, "저자를 저장하는 중 오류가 발생하였습니다."),
+    WRITE_QUEUE_FULL(429, "등록 대기열이 가득 찼습니다. 잠시 후 다시 시도하세요."),
+    WRITE_QUEUE_CLOSED(503, "서버가 종료 중이므로 등록 요청을 받을 수 없습니다."),
     ;
 
     private final int status;
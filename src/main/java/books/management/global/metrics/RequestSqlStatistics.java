@@ -0,0 +1,60 @@
+package books.management.global.metrics;
+
+/**
+ * 하나의 HTTP 요청에서 실행된 SQL 문, 엔티티 로딩, 플러시 횟수를 요청 스레드 단위로 집계합니다. - 집계는 RequestSqlStatisticsFilter가 요청 시작 시 시작하고 종료 시 제거하며, 집계 중이
+ * 아닌 스레드(시작 시 색인 생성, 비동기 응답 등)에서의 호출은 무시합니다.
+ */
+public final class RequestSqlStatistics {
+
+    private static final ThreadLocal<RequestSqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long entityLoads;
+    private long flushes;
+
+    private RequestSqlStatistics() {
+    }
+
+    static RequestSqlStatistics start() {
+        RequestSqlStatistics statistics = new RequestSqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    static void statementExecuted() {
+        RequestSqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestSqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.entityLoads++;
+        }
+    }
+
+    static void flushed() {
+        RequestSqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.flushes++;
+        }
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getEntityLoads() {
+        return entityLoads;
+    }
+
+    public long getFlushes() {
+        return flushes;
+    }
+}
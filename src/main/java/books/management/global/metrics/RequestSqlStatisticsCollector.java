@@ -0,0 +1,30 @@
+package books.management.global.metrics;
+
+import java.util.Iterator;
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Hibernate가 실행하는 SQL 문과 엔티티 로딩, 플러시를 RequestSqlStatistics에 기록합니다. - 세션 팩토리 단위로 등록되므로 상태를 갖지 않으며, 집계 값은 요청 스레드의 ThreadLocal에
+ * 저장됩니다.
+ */
+public class RequestSqlStatisticsCollector implements StatementInspector, Interceptor {
+
+    @Override
+    public String inspect(String sql) {
+        RequestSqlStatistics.statementExecuted();
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestSqlStatistics.entityLoaded();
+        return false;
+    }
+
+    @Override
+    public void preFlush(Iterator<Object> entities) {
+        RequestSqlStatistics.flushed();
+    }
+}
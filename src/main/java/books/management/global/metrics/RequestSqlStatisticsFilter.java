@@ -0,0 +1,72 @@
+package books.management.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * HTTP 요청 단위로 SQL 문, 엔티티 로딩, 플러시 횟수를 집계하여 http.server.requests.sql.* 지표로 기록합니다. - 지표는 요청 메소드와 URI 패턴으로 구분됩니다. - 하나의 요청에서
+ * 실행된 SQL 문이 books.metrics.sql-statement-warning-threshold 를 넘으면 N+1 문제를 의심할 수 있도록 경고 로그를 남깁니다.
+ */
+@Slf4j
+@Component
+public class RequestSqlStatisticsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final long statementWarningThreshold;
+
+    public RequestSqlStatisticsFilter(MeterRegistry meterRegistry,
+                                      @Value("${books.metrics.sql-statement-warning-threshold:20}")
+                                      long statementWarningThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementWarningThreshold = statementWarningThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestSqlStatistics statistics = RequestSqlStatistics.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStatistics.clear();
+            record(request, statistics);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestSqlStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        summary("http.server.requests.sql.statements", "SQL statements executed per request", tags)
+                .record(statistics.getStatements());
+        summary("http.server.requests.sql.entity.loads", "Entities loaded per request", tags)
+                .record(statistics.getEntityLoads());
+        summary("http.server.requests.sql.flushes", "Session flushes per request", tags)
+                .record(statistics.getFlushes());
+
+        if (statistics.getStatements() > statementWarningThreshold) {
+            log.warn("{} {} executed {} SQL statements (threshold {}), loaded {} entities, flushed {} times",
+                    request.getMethod(), request.getRequestURI(), statistics.getStatements(),
+                    statementWarningThreshold, statistics.getEntityLoads(), statistics.getFlushes());
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, Tags tags) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
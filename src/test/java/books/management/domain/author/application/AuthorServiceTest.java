@@ -2,20 +2,36 @@ package books.management.domain.author.application;
 
 import static books.management.fixtures.AuthorFixture.createAuthor;
 import static books.management.fixtures.AuthorFixture.createAuthorRequestDto;
+import static books.management.fixtures.AuthorFixture.createAuthorView;
+import static books.management.fixtures.BookFixture.createBook;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 import books.management.domain.author.dao.AuthorRepository;
 import books.management.domain.author.domain.Author;
+import books.management.domain.author.dto.projection.AuthorView;
+import books.management.domain.author.dto.request.AuthorPatchRequestDto;
 import books.management.domain.author.dto.request.AuthorRequestDto;
+import books.management.domain.author.dto.response.AuthorResponseDto;
+import books.management.domain.author.dto.response.AuthorWithBooksResponseDto;
+import books.management.domain.author.event.AuthorChangedEvent;
+import books.management.domain.book.dao.BookRepository;
+import books.management.global.common.response.CursorResponse;
 import books.management.global.error.exception.EntityNotFoundException;
 import books.management.global.error.exception.NonUniqueValueException;
+import books.management.global.error.exception.PreconditionFailedException;
 import books.management.global.error.response.GlobalErrorCode;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -23,6 +39,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("[단위 테스트] AuthorService")
@@ -34,6 +52,12 @@ class AuthorServiceTest {
     @Mock
     AuthorRepository authorRepository;
 
+    @Mock
+    BookRepository bookRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("저자 생성 테스트")
     class Create {
@@ -67,6 +91,30 @@ class AuthorServiceTest {
 
     }
 
+    @Nested
+    @DisplayName("저자 일괄 생성 테스트")
+    class CreateAll {
+
+        @Test
+        @DisplayName("성공 - 이미 존재하거나 요청 안에서 중복된 이메일만 거절")
+        void createAll_success_rejectDuplicatedEmails() {
+            // given
+            List<AuthorRequestDto> requests = List.of(
+                    createAuthorRequestDto("저자1", "test1@email.com"),
+                    createAuthorRequestDto("저자2", "exists@email.com"),
+                    createAuthorRequestDto("저자3", "test1@email.com"));
+            given(authorRepository.findExistingEmails(any())).willReturn(Set.of("exists@email.com"));
+
+            // when
+            Map<Integer, String> rejected = authorService.createAll(requests);
+
+            // then
+            assertThat(rejected).containsOnlyKeys(1, 2);
+            then(authorRepository).should().saveAll(argThat(authors -> ((List<?>) authors).size() == 1));
+            then(eventPublisher).should().publishEvent(any(AuthorChangedEvent.class));
+        }
+    }
+
     @Nested
     @DisplayName("저자 목록 조회 테스트")
     class FindAll {
@@ -75,28 +123,29 @@ class AuthorServiceTest {
         @DisplayName("성공 - 저자 목록이 비어있어도 빈 리스트 반환")
         void findAll_success() {
             // given
-            Author author1 = createAuthor("저자1", "test1@email.com");
-            Author author2 = createAuthor("저자2", "test2@email.com");
-            given(authorRepository.findAll()).willReturn(List.of(author1, author2));
+            AuthorView author1 = createAuthorView(1L, "저자1", "test1@email.com");
+            AuthorView author2 = createAuthorView(2L, "저자2", "test2@email.com");
+            given(authorRepository.findViewsByIdGreaterThan(any(), any())).willReturn(List.of(author1, author2));
 
             // when
-            authorService.findAllAuthor();
+            CursorResponse<AuthorResponseDto> authors = authorService.findAllAuthor(null, 20);
 
             // then
-            then(authorRepository).should().findAll();
+            assertThat(authors.getContent().size()).isEqualTo(2);
+            assertThat(authors.isHasNext()).isFalse();
         }
 
         @Test
         @DisplayName("성공 - 저자 목록이 비어있어도 빈 리스트 반환")
         void findAll_success_returnEmptyList() {
             // given
-            given(authorRepository.findAll()).willReturn(List.of());
+            given(authorRepository.findViewsByIdGreaterThan(any(), any())).willReturn(List.of());
 
             // when
-            authorService.findAllAuthor();
+            CursorResponse<AuthorResponseDto> authors = authorService.findAllAuthor(null, 20);
 
             // then
-            then(authorRepository).should().findAll();
+            assertThat(authors.getContent()).isEmpty();
         }
     }
 
@@ -109,14 +158,14 @@ class AuthorServiceTest {
         void findAuthorById_success() {
             // given
             Long authorId = 1L;
-            Author author = createAuthor("저자", "test@email.com");
-            given(authorRepository.findById(authorId)).willReturn(Optional.ofNullable(author));
+            AuthorView author = createAuthorView(authorId, "저자", "test@email.com");
+            given(authorRepository.findViewById(authorId)).willReturn(Optional.of(author));
 
             // when
             authorService.findAuthorById(authorId);
 
             // then
-            then(authorRepository).should().findById(authorId);
+            then(authorRepository).should().findViewById(authorId);
         }
 
         @Test
@@ -124,7 +173,7 @@ class AuthorServiceTest {
         void findAuthorById_throwException_ifAuthorNotExists() {
             // given
             Long authorId = 1L;
-            given(authorRepository.findById(authorId)).willReturn(Optional.empty());
+            given(authorRepository.findViewById(authorId)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> authorService.findAuthorById(authorId))
@@ -134,6 +183,59 @@ class AuthorServiceTest {
 
     }
 
+    @Nested
+    @DisplayName("저자 및 도서 목록 조회 테스트")
+    class FindAuthorWithBooks {
+
+        @Test
+        @DisplayName("성공 - 저자와 도서 목록을 한 번에 조회")
+        void findAuthorWithBooksById_success() {
+            // given
+            Long authorId = 1L;
+            Author author = createAuthor("저자", "test@email.com");
+            author.getBooks().add(createBook("제목", "설명", "1234567890", LocalDate.now(), author));
+            given(authorRepository.findWithBooksById(authorId)).willReturn(Optional.of(author));
+
+            // when
+            AuthorWithBooksResponseDto response = authorService.findAuthorWithBooksById(authorId);
+
+            // then
+            assertThat(response.getBooks()).hasSize(1);
+            then(authorRepository).should(never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("성공 - 다음 페이지 확인용으로 더 조회한 저자의 도서는 조회하지 않음")
+        void findAllAuthorWithBooks_skipLookaheadAuthor() {
+            // given
+            Author first = createAuthor("저자1", "test1@email.com");
+            ReflectionTestUtils.setField(first, "id", 1L);
+            Author lookahead = mock(Author.class);
+            given(authorRepository.findByIdGreaterThanOrderByIdAsc(any(), any())).willReturn(List.of(first, lookahead));
+
+            // when
+            CursorResponse<AuthorWithBooksResponseDto> response = authorService.findAllAuthorWithBooks(null, 1);
+
+            // then
+            assertThat(response.getContent()).extracting(AuthorWithBooksResponseDto::getId).containsExactly(1L);
+            assertThat(response.isHasNext()).isTrue();
+            then(lookahead).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패 - 저자가 존재하지 않으면 예외 발생")
+        void findAuthorWithBooksById_throwException_ifAuthorNotExists() {
+            // given
+            Long authorId = 1L;
+            given(authorRepository.findWithBooksById(authorId)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> authorService.findAuthorWithBooksById(authorId))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.AUTHOR_NOT_FOUND);
+        }
+    }
+
     @Nested
     @DisplayName("저자 수정 테스트")
     class Update {
@@ -168,6 +270,22 @@ class AuthorServiceTest {
                     .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.AUTHOR_NOT_FOUND);
         }
 
+        @Test
+        @DisplayName("실패 - 기대하는 버전과 현재 버전이 다르면 예외 발생")
+        void updateAuthor_throwException_ifVersionMismatch() {
+            // given
+            Long authorId = 1L;
+            AuthorRequestDto request = createAuthorRequestDto("수정된 저자", "test@email.com");
+            Author author = createAuthor("저자", "test@email.com");
+            ReflectionTestUtils.setField(author, "version", 2L);
+            given(authorRepository.findById(authorId)).willReturn(Optional.ofNullable(author));
+
+            // when & then
+            assertThatThrownBy(() -> authorService.updateAuthorDetails(authorId, request, 1L))
+                    .isInstanceOf(PreconditionFailedException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.VERSION_MISMATCH);
+        }
+
         @Test
         @DisplayName("실패 - 저자 이메일 수정 시 중복된 이메일이 이미 존재하면 예외 발생")
         void updateAuthor_throwException_ifEmailExists() {
@@ -186,21 +304,75 @@ class AuthorServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("저자 부분 수정 테스트")
+    class Patch {
+
+        @Test
+        @DisplayName("성공 - 이름만 수정하면 이메일을 조회하지 않고 수정")
+        void patchAuthorDetails_Success_SkipEmailLookup_IfOnlyNameChanged() {
+            // given
+            AuthorPatchRequestDto request = AuthorPatchRequestDto.builder().name("수정된 이름").build();
+            given(authorRepository.patch(1L, request, null)).willReturn(1);
+            given(authorRepository.findVersionById(1L)).willReturn(Optional.of(1L));
+
+            // when
+            authorService.patchAuthorDetails(1L, request, null);
+
+            // then
+            then(authorRepository).should(never()).findEmailById(any());
+            then(authorRepository).should(never()).findById(any());
+            then(eventPublisher).should().publishEvent(any(AuthorChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("실패 - 변경된 이메일이 이미 존재한다면 예외 발생")
+        void patchAuthorDetails_ThrowException_IfEmailExists() {
+            // given
+            AuthorPatchRequestDto request = AuthorPatchRequestDto.builder().email("other@email.com").build();
+            given(authorRepository.findEmailById(1L)).willReturn(Optional.of("test@email.com"));
+            given(authorRepository.existsByEmail("other@email.com")).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> authorService.patchAuthorDetails(1L, request, null))
+                    .isInstanceOf(NonUniqueValueException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.AUTHOR_EMAIL_DUPLICATION);
+            then(authorRepository).should(never()).patch(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("실패 - 기대하는 버전과 현재 버전이 다르면 예외 발생")
+        void patchAuthorDetails_ThrowException_IfVersionMismatch() {
+            // given
+            AuthorPatchRequestDto request = AuthorPatchRequestDto.builder().name("수정된 이름").build();
+            given(authorRepository.patch(1L, request, 1L)).willReturn(0);
+            given(authorRepository.findVersionById(1L)).willReturn(Optional.of(2L));
+
+            // when & then
+            assertThatThrownBy(() -> authorService.patchAuthorDetails(1L, request, 1L))
+                    .isInstanceOf(PreconditionFailedException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.VERSION_MISMATCH);
+        }
+    }
+
     @Nested
     @DisplayName("저자 삭제 테스트")
     class Delete {
 
         @Test
-        @DisplayName("성공")
+        @DisplayName("성공 - 저자의 도서를 한 번의 DELETE 문으로 삭제한 뒤 저자를 삭제")
         void delete_success() {
             // given
             Long authorId = 1L;
+            given(bookRepository.findIdsByAuthorId(authorId)).willReturn(List.of(10L, 11L));
+            given(authorRepository.deleteByIdInBulk(authorId)).willReturn(1);
 
             // when
             authorService.deleteAuthor(authorId);
 
             // then
-            then(authorRepository).should().deleteById(authorId);
+            then(bookRepository).should().deleteAllByAuthorIdInBulk(authorId);
+            then(eventPublisher).should().publishEvent(any(AuthorChangedEvent.class));
         }
 
         @Test
@@ -208,12 +380,15 @@ class AuthorServiceTest {
         void delete_success_ifAuthorNotExists() {
             // given
             Long authorId = 1L;
+            given(bookRepository.findIdsByAuthorId(authorId)).willReturn(List.of());
+            given(authorRepository.deleteByIdInBulk(authorId)).willReturn(0);
 
             // when
             authorService.deleteAuthor(authorId);
 
             // then
-            then(authorRepository).should().deleteById(authorId);
+            then(bookRepository).should(never()).deleteAllByAuthorIdInBulk(any());
+            then(eventPublisher).should(never()).publishEvent(any(AuthorChangedEvent.class));
         }
 
     }
@@ -0,0 +1,224 @@
+package books.management.domain.book.application;
+
+import static books.management.fixtures.AuthorFixture.createAuthor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import books.management.domain.author.dao.AuthorRepository;
+import books.management.domain.author.domain.Author;
+import books.management.domain.book.dao.BookRepository;
+import books.management.domain.book.domain.Book;
+import books.management.domain.book.dto.response.BookImportResponseDto;
+import books.management.global.error.exception.InvalidValueException;
+import books.management.global.error.response.GlobalErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[단위 테스트] BookImportService")
+class BookImportServiceTest {
+
+    private BookImportService bookImportService;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @Mock
+    private IsbnFilter isbnFilter;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        bookImportService = new BookImportService(bookRepository, authorRepository, isbnFilter,
+                Validation.buildDefaultValidatorFactory().getValidator(), objectMapper,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), entityManager, eventPublisher);
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Author authorWithId(Long id) {
+        Author author = createAuthor("저자", "test@email.com");
+        ReflectionTestUtils.setField(author, "id", id);
+        return author;
+    }
+
+    @Nested
+    @DisplayName("JSON 대량 등록 테스트")
+    class ImportJson {
+
+        @Test
+        @DisplayName("성공 - 저자와 ISBN을 청크 단위로 한 번에 조회하고 저장")
+        @SuppressWarnings("unchecked")
+        void importJson_success() throws Exception {
+            // given
+            String json = """
+                    [
+                      {"title": "제목1", "isbn": "1234567890", "publication_date": "2024-01-01", "author_id": 1},
+                      {"title": "제목2", "isbn": "1234567800", "publication_date": "2024-01-02", "author_id": 1}
+                    ]""";
+            given(authorRepository.findAllById(any())).willReturn(List.of(authorWithId(1L)));
+            given(bookRepository.findExistingIsbns(anyCollection())).willReturn(Set.of());
+
+            // when
+            BookImportResponseDto result = bookImportService.importJson(body(json));
+
+            // then
+            ArgumentCaptor<List<Book>> captor = ArgumentCaptor.forClass(List.class);
+            then(bookRepository).should().saveAll(captor.capture());
+            assertThat(captor.getValue()).hasSize(2);
+            assertThat(result.getSucceeded()).isEqualTo(2);
+            assertThat(result.getFailed()).isZero();
+        }
+
+        @Test
+        @DisplayName("실패 - 배열 형식이 아니면 예외 발생")
+        void importJson_throwException_ifNotArray() {
+            // when & then
+            assertThatThrownBy(() -> bookImportService.importJson(body("{\"title\": \"제목\"}")))
+                    .isInstanceOf(InvalidValueException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.INVALID_IMPORT_FORMAT);
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV 대량 등록 테스트")
+    class ImportCsv {
+
+        @Test
+        @DisplayName("성공 - 중복 ISBN, 존재하지 않는 저자, 형식 오류 행만 실패로 반환")
+        void importCsv_reportFailedRowsOnly() throws Exception {
+            // given
+            String csv = """
+                    title,description,isbn,publication_date,author_id
+                    제목1,"설명, 쉼표 포함",1234567890,2024-01-01,1
+                    제목2,,1234567890,2024-01-02,1
+                    제목3,,1234567800,2024-01-03,2
+                    제목4,,1234567810,not-a-date,1
+                    제목5,,1234567820,2024-01-05,1
+                    """;
+            given(authorRepository.findAllById(any())).willReturn(List.of(authorWithId(1L)));
+            given(bookRepository.findExistingIsbns(anyCollection())).willReturn(Set.of("1234567820"));
+
+            // when
+            BookImportResponseDto result = bookImportService.importCsv(body(csv));
+
+            // then
+            assertThat(result.getTotal()).isEqualTo(5);
+            assertThat(result.getSucceeded()).isEqualTo(1);
+            assertThat(result.getErrors())
+                    .extracting(BookImportResponseDto.RowError::getRow)
+                    .containsExactly(2, 3, 4, 5);
+        }
+
+        @Test
+        @DisplayName("성공 - 제목이 255자를 넘는 행은 저장 전에 실패로 반환")
+        void importCsv_rejectTooLongTitle() throws Exception {
+            // given
+            String csv = "title,description,isbn,publication_date,author_id\n"
+                    + "가".repeat(256) + ",,1234567890,2024-01-01,1\n";
+
+            // when
+            BookImportResponseDto result = bookImportService.importCsv(body(csv));
+
+            // then
+            then(bookRepository).should(never()).saveAll(any());
+            assertThat(result.getSucceeded()).isZero();
+            assertThat(result.getErrors())
+                    .extracting(BookImportResponseDto.RowError::getRow)
+                    .containsExactly(1);
+        }
+
+        @Test
+        @DisplayName("성공 - flush 중 ISBN 고유 제약 조건을 위반하면 청크를 나누어 다시 저장하고 충돌한 행만 ISBN 중복으로 반환")
+        void importCsv_reportOnlyConflictingRow_ifFlushFails() throws Exception {
+            // given
+            String csv = """
+                    title,description,isbn,publication_date,author_id
+                    제목1,,1234567890,2024-01-01,1
+                    제목2,,1234567800,2024-01-02,1
+                    제목3,,1234567810,2024-01-03,3
+                    제목4,,1234567820,2024-01-04,1
+                    """;
+            given(authorRepository.findAllById(any())).willReturn(List.of(authorWithId(1L)));
+            given(bookRepository.findExistingIsbns(anyCollection())).willReturn(Set.of());
+            List<String> pendingIsbns = new ArrayList<>();
+            given(bookRepository.saveAll(any())).willAnswer(invocation -> {
+                List<Book> books = invocation.getArgument(0);
+                pendingIsbns.clear();
+                books.forEach(book -> pendingIsbns.add(book.getIsbn()));
+                return books;
+            });
+            willAnswer(invocation -> {
+                if (pendingIsbns.contains("1234567800")) {
+                    throw new ConstraintViolationException("duplicate",
+                            new SQLException("Unique index or primary key violation"), "PUBLIC.UK_BOOK_ISBN_INDEX_2");
+                }
+                return null;
+            }).given(entityManager).flush();
+
+            // when
+            BookImportResponseDto result = bookImportService.importCsv(body(csv));
+
+            // then
+            assertThat(result.getTotal()).isEqualTo(4);
+            assertThat(result.getSucceeded()).isEqualTo(2);
+            assertThat(result.getErrors())
+                    .extracting(BookImportResponseDto.RowError::getRow, BookImportResponseDto.RowError::getReason)
+                    .containsExactly(tuple(2, GlobalErrorCode.BOOK_ISBN_DUPLICATION.getMessage()),
+                            tuple(3, GlobalErrorCode.AUTHOR_NOT_FOUND.getMessage()));
+        }
+
+        @Test
+        @DisplayName("실패 - 헤더가 올바르지 않으면 예외 발생")
+        void importCsv_throwException_ifHeaderInvalid() {
+            // when & then
+            assertThatThrownBy(() -> bookImportService.importCsv(body("isbn,title\n")))
+                    .isInstanceOf(InvalidValueException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.INVALID_IMPORT_FORMAT);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package books.management.domain.book.application;
+
+import static books.management.fixtures.BookFixture.createBookResponseDto;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import books.management.domain.author.event.AuthorChangedEvent;
+import books.management.domain.book.dao.BookRepository;
+import books.management.domain.book.event.BookChangedEvent;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("[단위 테스트] BookSearchIndex")
+class BookSearchIndexTest {
+
+    private BookSearchIndex bookSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookSearchIndex = new BookSearchIndex(mock(BookRepository.class), mock(EntityManager.class),
+                mock(PlatformTransactionManager.class));
+        bookSearchIndex.onBookChanged(BookChangedEvent.created(
+                createBookResponseDto(1L, "Effective Java", "자바 프로그래밍 모범 사례", "1234567890", 1L)));
+        bookSearchIndex.onBookChanged(BookChangedEvent.created(
+                createBookResponseDto(2L, "Java Concurrency in Practice", "동시성 프로그래밍", "1234567800", 1L)));
+        bookSearchIndex.onBookChanged(BookChangedEvent.created(
+                createBookResponseDto(3L, "Clean Code", "Java 예제로 배우는 좋은 코드", "1234567810", 2L)));
+    }
+
+    @Test
+    @DisplayName("모든 검색어를 포함한 도서만 반환")
+    void search_returnIntersection() {
+        // when
+        List<Long> result = bookSearchIndex.search("java 프로그래밍", 10);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("제목에 검색어가 포함된 도서가 설명에만 포함된 도서보다 먼저 반환")
+    void search_rankTitleMatchHigher() {
+        // when
+        List<Long> result = bookSearchIndex.search("java", 10);
+
+        // then
+        assertThat(result).hasSize(3);
+        assertThat(result.get(2)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("수정, 삭제 이벤트가 색인에 반영")
+    void search_reflectUpdatesAndDeletes() {
+        // when
+        bookSearchIndex.onBookChanged(BookChangedEvent.updated(
+                createBookResponseDto(1L, "Effective Kotlin", "코틀린 모범 사례", "1234567890", 1L)));
+        bookSearchIndex.onAuthorChanged(AuthorChangedEvent.deleted(2L, List.of(3L)));
+
+        // then
+        assertThat(bookSearchIndex.search("java", 10)).containsExactly(2L);
+        assertThat(bookSearchIndex.search("kotlin", 10)).containsExactly(1L);
+    }
+}
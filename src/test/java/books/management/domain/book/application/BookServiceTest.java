@@ -3,24 +3,38 @@ package books.management.domain.book.application;
 import static books.management.fixtures.AuthorFixture.createAuthor;
 import static books.management.fixtures.BookFixture.createBook;
 import static books.management.fixtures.BookFixture.createBookRequestDto;
+import static books.management.fixtures.BookFixture.createBookView;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 
 import books.management.domain.author.dao.AuthorRepository;
 import books.management.domain.author.domain.Author;
 import books.management.domain.book.dao.BookRepository;
 import books.management.domain.book.domain.Book;
+import books.management.domain.book.dto.projection.BookView;
+import books.management.domain.book.dto.request.BookPatchRequestDto;
 import books.management.domain.book.dto.request.BookRequestDto;
 import books.management.domain.book.dto.response.BookResponseDto;
+import books.management.domain.book.event.BookChangedEvent;
+import books.management.global.common.pagination.CursorCodec;
+import books.management.global.common.pagination.DateIdCursor;
+import books.management.global.common.response.CursorResponse;
 import books.management.global.error.exception.EntityNotFoundException;
+import books.management.global.error.exception.InvalidValueException;
 import books.management.global.error.exception.NonUniqueValueException;
+import books.management.global.error.exception.PreconditionFailedException;
 import books.management.global.error.response.GlobalErrorCode;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -28,6 +42,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("[단위 테스트] BookService")
@@ -42,6 +61,12 @@ class BookServiceTest {
     @Mock
     private AuthorRepository authorRepository;
 
+    @Mock
+    private IsbnFilter isbnFilter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("도서 생성 테스트")
     class Create {
@@ -53,6 +78,7 @@ class BookServiceTest {
             BookRequestDto bookRequestDto = createBookRequestDto("제목", "설명", "1234567890", LocalDate.now(), 1L);
             Author author = createAuthor("저자", "test@email.com");
 
+            given(isbnFilter.mightContain(any())).willReturn(true);
             given(bookRepository.existsByIsbn(any())).willReturn(false);
             given(authorRepository.findById(any())).willReturn(Optional.ofNullable(author));
 
@@ -61,7 +87,46 @@ class BookServiceTest {
 
             // then
             then(bookRepository).should().save(any());
+            then(isbnFilter).should().put("1234567890");
+
+        }
+
+        @Test
+        @DisplayName("성공 - ISBN 필터에 존재하지 않으면 데이터베이스 조회를 생략")
+        void create_Success_SkipIsbnLookup_IfFilterMisses() {
+            // given
+            BookRequestDto bookRequestDto = createBookRequestDto("제목", "설명", "1234567890", LocalDate.now(), 1L);
+            Author author = createAuthor("저자", "test@email.com");
+
+            given(isbnFilter.mightContain(any())).willReturn(false);
+            given(authorRepository.findById(any())).willReturn(Optional.ofNullable(author));
+
+            // when
+            bookService.create(bookRequestDto);
 
+            // then
+            then(bookRepository).should(never()).existsByIsbn(any());
+            then(bookRepository).should().save(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 검증 이후 같은 ISBN이 동시에 저장되어 고유 제약 조건을 위반하면 ISBN 중복 예외 발생")
+        void create_ThrowException_IfIsbnConstraintViolated() {
+            // given
+            BookRequestDto bookRequestDto = createBookRequestDto("제목", "설명", "1234567890", LocalDate.now(), 1L);
+            Author author = createAuthor("저자", "test@email.com");
+
+            given(isbnFilter.mightContain(any())).willReturn(false);
+            given(authorRepository.findById(any())).willReturn(Optional.ofNullable(author));
+            willThrow(new DataIntegrityViolationException("duplicate", new ConstraintViolationException("duplicate",
+                    new SQLException("Unique index or primary key violation"), "PUBLIC.UK_BOOK_ISBN_INDEX_2")))
+                    .given(bookRepository).flush();
+
+            // when & then
+            assertThatThrownBy(() -> bookService.create(bookRequestDto))
+                    .isInstanceOf(NonUniqueValueException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.BOOK_ISBN_DUPLICATION);
+            then(isbnFilter).should(never()).put(any());
         }
 
         @Test
@@ -70,6 +135,7 @@ class BookServiceTest {
             // given
             BookRequestDto bookRequestDto = createBookRequestDto("제목", "설명", "1234567890", LocalDate.now(), 1L);
 
+            given(isbnFilter.mightContain(any())).willReturn(true);
             given(bookRepository.existsByIsbn(any())).willReturn(true);
 
             // when & then
@@ -81,36 +147,97 @@ class BookServiceTest {
     }
 
     @Nested
-    @DisplayName("도서 목록 전체 조회 테스트")
+    @DisplayName("도서 목록 조회 테스트")
     class FindAllBooks {
 
         @Test
         @DisplayName("성공 - 도서 목록이 비어있어도 빈 리스트 반환")
         void findAllBooks_success_returnEmptyList() {
             // given
-            given(bookRepository.findAll()).willReturn(List.of());
+            given(bookRepository.findViewsByIdGreaterThan(any(), any())).willReturn(List.of());
 
             // when
-            List<BookResponseDto> books = bookService.findAllBooks();
+            CursorResponse<BookResponseDto> books = bookService.findAllBooks(null, 20);
 
             // then
-            assertThat(books.size()).isEqualTo(0);
+            assertThat(books.getContent().size()).isEqualTo(0);
+            assertThat(books.isHasNext()).isFalse();
         }
 
         @Test
         @DisplayName("성공 - 도서 목록이 존재하면 목록 반환")
         void findAllBooks_success_returnBooks() {
             // given
-            Author author = createAuthor("저자1", "test@email.com");
-            Book book1 = createBook("제목1", "설명1", "1234567890", LocalDate.now(), author);
-            Book book2 = createBook("제목2", "설명2", "1234567891", LocalDate.now(), author);
-            given(bookRepository.findAll()).willReturn(List.of(book1, book2));
+            BookView book1 = createBookView(1L, "제목1", "1234567890", 1L);
+            BookView book2 = createBookView(2L, "제목2", "1234567891", 1L);
+            given(bookRepository.findViewsByIdGreaterThan(any(), any())).willReturn(List.of(book1, book2));
 
             // when
-            List<BookResponseDto> books = bookService.findAllBooks();
+            CursorResponse<BookResponseDto> books = bookService.findAllBooks(null, 20);
 
             // then
-            assertThat(books.size()).isEqualTo(2);
+            assertThat(books.getContent().size()).isEqualTo(2);
+            assertThat(books.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("성공 - limit보다 많은 도서가 존재하면 다음 커서 반환")
+        void findAllBooks_success_returnNextCursor() {
+            // given
+            BookView book1 = createBookView(1L, "제목1", "1234567890", 1L);
+            BookView book2 = createBookView(2L, "제목2", "1234567891", 1L);
+            given(bookRepository.findViewsByIdGreaterThan(any(), any())).willReturn(List.of(book1, book2));
+
+            // when
+            CursorResponse<BookResponseDto> books = bookService.findAllBooks(null, 1);
+
+            // then
+            assertThat(books.getContent().size()).isEqualTo(1);
+            assertThat(books.isHasNext()).isTrue();
+            assertThat(CursorCodec.decodeId(books.getNextCursor())).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("실패 - 커서 형식이 올바르지 않으면 예외 발생")
+        void findAllBooks_ThrowException_IfCursorInvalid() {
+            // when & then
+            assertThatThrownBy(() -> bookService.findAllBooks("!invalid", 20))
+                    .isInstanceOf(InvalidValueException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    @Nested
+    @DisplayName("출간일 기준 도서 목록 조회 테스트")
+    class FindBooksByPublicationDate {
+
+        @Test
+        @DisplayName("성공 - limit보다 많은 도서가 존재하면 (출간일, id) 다음 커서 반환")
+        void findBooksByPublicationDate_success_returnNextCursor() {
+            // given
+            BookView book1 = new BookView(1L, "제목1", "설명1", "1234567890", LocalDate.of(2024, 5, 1), 1L, 0L);
+            BookView book2 = new BookView(2L, "제목2", "설명2", "1234567891", LocalDate.of(2024, 4, 1), 1L, 0L);
+            given(bookRepository.findViews(any(Specification.class), any(Sort.class), eq(2)))
+                    .willReturn(List.of(book1, book2));
+
+            // when
+            CursorResponse<BookResponseDto> books = bookService.findBooksByPublicationDate(
+                    null, null, null, "publication_date,desc", null, 1);
+
+            // then
+            assertThat(books.getContent().size()).isEqualTo(1);
+            assertThat(books.isHasNext()).isTrue();
+            assertThat(CursorCodec.decodeDateAndId(books.getNextCursor()))
+                    .isEqualTo(new DateIdCursor(LocalDate.of(2024, 5, 1), 1L));
+        }
+
+        @Test
+        @DisplayName("실패 - 지원하지 않는 정렬 조건이면 예외 발생")
+        void findBooksByPublicationDate_ThrowException_IfSortInvalid() {
+            // when & then
+            assertThatThrownBy(() -> bookService.findBooksByPublicationDate(null, null, null, "title,desc", null, 20))
+                    .isInstanceOf(InvalidValueException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.INVALID_SORT);
         }
     }
 
@@ -122,22 +249,22 @@ class BookServiceTest {
         @DisplayName("성공 - 도서가 존재하면 상세 정보 반환")
         void findBookById_success_returnBookDetails() {
             // given
-            Author author = createAuthor("저자", "test@email.com");
-            Book book = createBook("제목", "설명", "1234567890", LocalDate.now(), author);
-            given(bookRepository.findById(any())).willReturn(Optional.of(book));
+            BookView book = createBookView(1L, "제목", "1234567890", 1L);
+            given(bookRepository.findViewById(any())).willReturn(Optional.of(book));
 
             // when
             BookResponseDto bookResponseDto = bookService.findBookById(1L);
 
             // then
             assertThat(bookResponseDto).isNotNull();
+            assertThat(bookResponseDto.getAuthorId()).isEqualTo(1L);
         }
 
         @Test
         @DisplayName("실패 - 도서가 존재하지 않으면 예외 발생")
         void findBookById_ThrowException_IfBookNotExists() {
             // given
-            given(bookRepository.findById(any())).willReturn(Optional.empty());
+            given(bookRepository.findViewById(any())).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> bookService.findBookById(1L))
@@ -180,6 +307,22 @@ class BookServiceTest {
                     .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.BOOK_NOT_FOUND);
         }
 
+        @Test
+        @DisplayName("실패 - 기대하는 버전과 현재 버전이 다르면 예외 발생")
+        void updateBookDetails_ThrowException_IfVersionMismatch() {
+            // given
+            BookRequestDto bookRequestDto = createBookRequestDto("수정된 제목", "설명", "1234567890", LocalDate.now(), 1L);
+            Author author = createAuthor("저자", "test@email.com");
+            Book book = createBook("제목", "설명", "1234567890", LocalDate.now(), author);
+            ReflectionTestUtils.setField(book, "version", 2L);
+            given(bookRepository.findById(any())).willReturn(Optional.of(book));
+
+            // when & then
+            assertThatThrownBy(() -> bookService.updateBookDetails(1L, bookRequestDto, 1L))
+                    .isInstanceOf(PreconditionFailedException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.VERSION_MISMATCH);
+        }
+
         @Test
         @DisplayName("실패 - ISBN 값 수정 시 이미 존재한다면 예외 발생")
         void updateBookDetails_ThrowException_IfIsbnExists() {
@@ -188,6 +331,7 @@ class BookServiceTest {
             Author author = createAuthor("저자", "test@email.com");
             Book book = createBook("제목", "설명", "1234567890", LocalDate.now(), author);
             given(bookRepository.findById(any())).willReturn(Optional.of(book));
+            given(isbnFilter.mightContain(any())).willReturn(true);
             given(bookRepository.existsByIsbn(any())).willReturn(true);
 
             // when & then
@@ -212,6 +356,106 @@ class BookServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("도서 정보 부분 수정 테스트")
+    class PatchBookDetails {
+
+        @Test
+        @DisplayName("성공 - 제목만 수정하면 ISBN, 저자를 조회하지 않고 수정")
+        void patchBookDetails_Success_SkipLookups_IfOnlyTitleChanged() {
+            // given
+            BookPatchRequestDto request = BookPatchRequestDto.builder().title("수정된 제목").build();
+            BookView view = createBookView(1L, "수정된 제목", "1234567890", 1L);
+            given(bookRepository.patch(1L, request, null)).willReturn(1);
+            given(bookRepository.findViewById(1L)).willReturn(Optional.of(view));
+
+            // when
+            bookService.patchBookDetails(1L, request, null);
+
+            // then
+            then(bookRepository).should(never()).findIsbnById(any());
+            then(bookRepository).should(never()).findById(any());
+            then(authorRepository).should(never()).existsById(any());
+            then(eventPublisher).should().publishEvent(any(BookChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("성공 - ISBN이 변경되지 않았다면 고유성 검사를 수행하지 않음")
+        void patchBookDetails_Success_SkipIsbnValidation_IfIsbnUnchanged() {
+            // given
+            BookPatchRequestDto request = BookPatchRequestDto.builder().isbn("1234567890").build();
+            given(bookRepository.findIsbnById(1L)).willReturn(Optional.of("1234567890"));
+            given(bookRepository.patch(1L, request, null)).willReturn(1);
+            given(bookRepository.findViewById(1L))
+                    .willReturn(Optional.of(createBookView(1L, "제목", "1234567890", 1L)));
+
+            // when
+            bookService.patchBookDetails(1L, request, null);
+
+            // then
+            then(bookRepository).should(never()).existsByIsbn(any());
+            then(isbnFilter).should(never()).put(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 변경된 ISBN이 이미 존재한다면 예외 발생")
+        void patchBookDetails_ThrowException_IfIsbnExists() {
+            // given
+            BookPatchRequestDto request = BookPatchRequestDto.builder().isbn("2234567890").build();
+            given(bookRepository.findIsbnById(1L)).willReturn(Optional.of("1234567890"));
+            given(isbnFilter.mightContain(any())).willReturn(true);
+            given(bookRepository.existsByIsbn(any())).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> bookService.patchBookDetails(1L, request, null))
+                    .isInstanceOf(NonUniqueValueException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.BOOK_ISBN_DUPLICATION);
+            then(bookRepository).should(never()).patch(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("실패 - 저자가 존재하지 않으면 예외 발생")
+        void patchBookDetails_ThrowException_IfAuthorNotExists() {
+            // given
+            BookPatchRequestDto request = BookPatchRequestDto.builder().authorId(2L).build();
+            given(authorRepository.existsById(2L)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> bookService.patchBookDetails(1L, request, null))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.AUTHOR_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("실패 - 기대하는 버전과 현재 버전이 다르면 예외 발생")
+        void patchBookDetails_ThrowException_IfVersionMismatch() {
+            // given
+            BookPatchRequestDto request = BookPatchRequestDto.builder().title("수정된 제목").build();
+            given(bookRepository.patch(1L, request, 1L)).willReturn(0);
+            given(bookRepository.findVersionById(1L)).willReturn(Optional.of(2L));
+
+            // when & then
+            assertThatThrownBy(() -> bookService.patchBookDetails(1L, request, 1L))
+                    .isInstanceOf(PreconditionFailedException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.VERSION_MISMATCH);
+            then(eventPublisher).should(never()).publishEvent(any(BookChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("실패 - 도서가 존재하지 않으면 예외 발생")
+        void patchBookDetails_ThrowException_IfBookNotExists() {
+            // given
+            BookPatchRequestDto request = BookPatchRequestDto.builder().title("수정된 제목").build();
+            given(bookRepository.patch(1L, request, null)).willReturn(0);
+            given(bookRepository.findVersionById(1L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> bookService.patchBookDetails(1L, request, null))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.BOOK_NOT_FOUND);
+        }
+    }
+
     @Nested
     @DisplayName("도서 삭제 테스트")
     class Delete {
@@ -226,6 +470,7 @@ class BookServiceTest {
 
             // then
             then(bookRepository).should().deleteById(1L);
+            then(eventPublisher).should().publishEvent(any(BookChangedEvent.class));
         }
 
         @Test
@@ -0,0 +1,70 @@
+package books.management.domain.book.application;
+
+import static books.management.fixtures.BookFixture.createBookResponseDto;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import books.management.domain.author.event.AuthorChangedEvent;
+import books.management.domain.book.dao.BookRepository;
+import books.management.domain.book.dto.response.BookTitleResponseDto;
+import books.management.domain.book.event.BookChangedEvent;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("[단위 테스트] BookTitleAutocomplete")
+class BookTitleAutocompleteTest {
+
+    private BookTitleAutocomplete bookTitleAutocomplete;
+
+    @BeforeEach
+    void setUp() {
+        bookTitleAutocomplete = new BookTitleAutocomplete(mock(BookRepository.class),
+                mock(PlatformTransactionManager.class));
+        bookTitleAutocomplete.onBookChanged(BookChangedEvent.created(
+                createBookResponseDto(1L, "Effective Java", "description", "1234567890", 1L)));
+        bookTitleAutocomplete.onBookChanged(BookChangedEvent.created(
+                createBookResponseDto(2L, "Effective  Kotlin", "description", "1234567800", 1L)));
+        bookTitleAutocomplete.onBookChanged(BookChangedEvent.created(
+                createBookResponseDto(3L, "Clean Code", "description", "1234567810", 2L)));
+    }
+
+    @Test
+    @DisplayName("대소문자와 연속된 공백을 구분하지 않고 접두사가 일치하는 제목을 제목 순서로 반환")
+    void suggest_returnMatchesInTitleOrder() {
+        // when
+        List<BookTitleResponseDto> result = bookTitleAutocomplete.suggest("effective ", 10);
+
+        // then
+        assertThat(result).extracting(BookTitleResponseDto::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("limit 개수만큼만 반환")
+    void suggest_limitResults() {
+        // when
+        List<BookTitleResponseDto> result = bookTitleAutocomplete.suggest("eff", 1);
+
+        // then
+        assertThat(result).extracting(BookTitleResponseDto::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("수정, 삭제 이벤트가 색인에 반영")
+    void suggest_reflectUpdatesAndDeletes() {
+        // when
+        bookTitleAutocomplete.onBookChanged(BookChangedEvent.updated(
+                createBookResponseDto(1L, "Clean Architecture", "description", "1234567890", 1L)));
+        bookTitleAutocomplete.onAuthorChanged(AuthorChangedEvent.deleted(2L, List.of(3L)));
+
+        // then
+        assertThat(bookTitleAutocomplete.suggest("clean", 10))
+                .extracting(BookTitleResponseDto::getTitle)
+                .containsExactly("Clean Architecture");
+        assertThat(bookTitleAutocomplete.suggest("effective", 10))
+                .extracting(BookTitleResponseDto::getId)
+                .containsExactly(2L);
+    }
+}
@@ -0,0 +1,114 @@
+package books.management.domain.book.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import books.management.domain.book.dao.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[단위 테스트] IsbnFilter")
+class IsbnFilterTest {
+
+    private IsbnFilter isbnFilter;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        isbnFilter = new IsbnFilter(bookRepository, mock(PlatformTransactionManager.class), Runnable::run,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("생성이 끝나기 전에는 항상 데이터베이스를 조회하도록 true 반환")
+    void mightContain_returnTrue_beforeBuilt() {
+        // when & then
+        assertThat(isbnFilter.mightContain("1234567890")).isTrue();
+    }
+
+    @Test
+    @DisplayName("저장된 ISBN으로 생성한 필터는 저장되지 않은 ISBN에 대해 false 반환")
+    void initialize_loadStoredIsbns() {
+        // given
+        given(bookRepository.streamAllIsbns()).willAnswer(invocation -> Stream.of("1234567890"));
+
+        // when
+        isbnFilter.initialize();
+
+        // then
+        assertThat(isbnFilter.mightContain("1234567890")).isTrue();
+        assertThat(isbnFilter.mightContain("1234567800")).isFalse();
+    }
+
+    @Test
+    @DisplayName("재생성 중 ISBN 조회가 끝난 뒤 추가된 ISBN도 새 필터에 반영")
+    void put_replayIntoNewFilter_ifPutDuringRebuild() {
+        // given
+        given(bookRepository.streamAllIsbns()).willAnswer(invocation -> Stream.of("1234567890")
+                .onClose(() -> isbnFilter.put("1234567800")));
+
+        // when
+        isbnFilter.initialize();
+
+        // then
+        assertThat(isbnFilter.mightContain("1234567890")).isTrue();
+        assertThat(isbnFilter.mightContain("1234567800")).isTrue();
+    }
+
+    @Test
+    @DisplayName("커밋 전에 추가된 ISBN이 재생성 조회에서 누락되더라도 커밋 후 새 필터에 반영")
+    void put_reapplyAfterCommit_ifRebuiltBeforeCommit() {
+        // given
+        given(bookRepository.streamAllIsbns()).willAnswer(invocation -> Stream.empty());
+        isbnFilter.initialize();
+
+        TransactionSynchronizationManager.initSynchronization();
+        isbnFilter.put("1234567800");
+        isbnFilter.markRemoved(1_001);
+        assertThat(isbnFilter.mightContain("1234567800")).isFalse();
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(isbnFilter.mightContain("1234567800")).isTrue();
+    }
+
+    @Test
+    @DisplayName("제거된 ISBN이 일정 수 이상 쌓이면 필터를 다시 생성")
+    void markRemoved_rebuild_ifStale() {
+        // given
+        given(bookRepository.streamAllIsbns()).willAnswer(invocation -> Stream.empty());
+        isbnFilter.initialize();
+
+        // when
+        isbnFilter.markRemoved(1_000);
+        isbnFilter.markRemoved();
+
+        // then
+        then(bookRepository).should(times(2)).streamAllIsbns();
+    }
+}
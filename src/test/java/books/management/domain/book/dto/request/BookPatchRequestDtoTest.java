@@ -0,0 +1,50 @@
+package books.management.domain.book.dto.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[단위 테스트] BookPatchRequestDto")
+class BookPatchRequestDtoTest {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    @DisplayName("제목과 설명이 255자 이하라면 검증 통과")
+    void validate_success_ifWithinMaxLength() {
+        // given
+        BookPatchRequestDto request = BookPatchRequestDto.builder()
+                .title("가".repeat(255))
+                .description("가".repeat(255))
+                .build();
+
+        // when
+        Set<ConstraintViolation<BookPatchRequestDto>> violations = validator.validate(request);
+
+        // then
+        assertThat(violations).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목과 설명이 255자를 넘으면 검증 실패")
+    void validate_fail_ifLongerThanMaxLength() {
+        // given
+        BookPatchRequestDto request = BookPatchRequestDto.builder()
+                .title("가".repeat(256))
+                .description("가".repeat(256))
+                .build();
+
+        // when
+        Set<ConstraintViolation<BookPatchRequestDto>> violations = validator.validate(request);
+
+        // then
+        assertThat(violations)
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactlyInAnyOrder("title", "description");
+    }
+}
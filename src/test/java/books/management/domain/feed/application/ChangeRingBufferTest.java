@@ -0,0 +1,142 @@
+package books.management.domain.feed.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import books.management.domain.feed.application.ChangeRingBuffer.Slice;
+import books.management.domain.feed.dto.response.ChangeEventResponseDto;
+import books.management.global.common.event.ChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[단위 테스트] ChangeRingBuffer")
+class ChangeRingBufferTest {
+
+    private ChangeRingBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ChangeRingBuffer(3, "epoch");
+    }
+
+    private void append(int count) {
+        for (int i = 0; i < count; i++) {
+            buffer.append(sequence -> ChangeEventResponseDto.builder()
+                    .sequence(sequence)
+                    .resource("BOOK")
+                    .type(ChangeType.CREATED)
+                    .id(sequence)
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("순번은 1부터 순서대로 부여")
+    void append_AssignSequentialNumbers() {
+        // given
+        append(2);
+
+        // when
+        Slice slice = buffer.since(0);
+
+        // then
+        assertThat(slice.truncated()).isFalse();
+        assertThat(slice.events()).extracting(ChangeEventResponseDto::getSequence).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 순번 이후의 이벤트만 반환")
+    void since_ReturnEventsAfterSequence() {
+        // given
+        append(3);
+
+        // when
+        Slice slice = buffer.since(2);
+
+        // then
+        assertThat(slice.truncated()).isFalse();
+        assertThat(slice.events()).extracting(ChangeEventResponseDto::getSequence).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 가장 오래된 이벤트부터 덮어씀")
+    void append_OverwriteOldest_IfBufferFull() {
+        // given
+        append(5);
+
+        // when
+        Slice slice = buffer.since(2);
+
+        // then
+        assertThat(slice.truncated()).isFalse();
+        assertThat(slice.events()).extracting(ChangeEventResponseDto::getSequence).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("이어 받을 이벤트가 이미 덮어써졌다면 truncated 반환")
+    void since_ReturnTruncated_IfEventsOverwritten() {
+        // given
+        append(5);
+
+        // when
+        Slice slice = buffer.since(1);
+
+        // then
+        assertThat(slice.truncated()).isTrue();
+        assertThat(slice.lastSequence()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("최신 순번 이후를 요청하면 빈 목록 반환")
+    void since_ReturnEmpty_IfUpToDate() {
+        // given
+        append(2);
+
+        // when
+        Slice slice = buffer.since(2);
+
+        // then
+        assertThat(slice.truncated()).isFalse();
+        assertThat(slice.events()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("마지막 순번보다 큰 순번을 요청하면 truncated 반환")
+    void since_ReturnTruncated_IfAfterLastSequence() {
+        // given
+        append(2);
+
+        // when
+        Slice slice = buffer.since(5);
+
+        // then
+        assertThat(slice.truncated()).isTrue();
+        assertThat(slice.events()).isEmpty();
+        assertThat(slice.lastSequence()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("같은 epoch의 이벤트 id에서는 순번을 꺼냄")
+    void sequenceOf_ReturnSequence_IfSameEpoch() {
+        // when
+        long sequence = buffer.sequenceOf(buffer.eventId(2));
+
+        // then
+        assertThat(sequence).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("재시작 전 버퍼의 이벤트 id로 요청하면 truncated 반환")
+    void since_ReturnTruncated_IfEventIdFromPreviousEpoch() {
+        // given
+        append(2);
+        String previousEventId = new ChangeRingBuffer(3, "previous").eventId(1);
+
+        // when
+        Slice slice = buffer.since(buffer.sequenceOf(previousEventId));
+
+        // then
+        assertThat(buffer.sequenceOf(previousEventId)).isEqualTo(ChangeRingBuffer.UNKNOWN_SEQUENCE);
+        assertThat(slice.truncated()).isTrue();
+    }
+}
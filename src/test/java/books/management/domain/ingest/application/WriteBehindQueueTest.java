@@ -0,0 +1,171 @@
+package books.management.domain.ingest.application;
+
+import static books.management.fixtures.AuthorFixture.createAuthorRequestDto;
+import static books.management.fixtures.BookFixture.createBookRequestDto;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import books.management.domain.author.application.AuthorService;
+import books.management.domain.author.dto.request.AuthorRequestDto;
+import books.management.domain.book.application.BookImportService;
+import books.management.domain.book.dto.request.BookRequestDto;
+import books.management.domain.book.dto.response.BookImportResponseDto;
+import books.management.domain.book.dto.response.BookImportResponseDto.RowError;
+import books.management.domain.ingest.domain.WriteStatus;
+import books.management.domain.ingest.dto.response.WriteTicketResponseDto;
+import books.management.global.error.exception.WriteRejectedException;
+import books.management.global.error.response.GlobalErrorCode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+@DisplayName("[단위 테스트] WriteBehindQueue")
+class WriteBehindQueueTest {
+
+    private final WriteBehindQueue writeBehindQueue = new WriteBehindQueue(mock(BookImportService.class),
+            mock(AuthorService.class), true, 2, 500);
+
+    @Test
+    @DisplayName("접수한 요청은 저장 전까지 PENDING 상태로 조회")
+    void submit_returnPendingTicket() {
+        // when
+        WriteTicketResponseDto ticket = writeBehindQueue.submit(createAuthorRequestDto("저자", "test@email.com"));
+
+        // then
+        assertThat(writeBehindQueue.findTicket(ticket.getTicketId()).getStatus()).isEqualTo(WriteStatus.PENDING);
+        assertThat(writeBehindQueue.status().getQueued()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패 - 대기열이 가득 차면 예외 발생")
+    void submit_throwException_ifQueueFull() {
+        // given
+        writeBehindQueue.submit(createAuthorRequestDto("저자1", "test1@email.com"));
+        writeBehindQueue.submit(createAuthorRequestDto("저자2", "test2@email.com"));
+
+        // when & then
+        assertThatThrownBy(() -> writeBehindQueue.submit(createAuthorRequestDto("저자3", "test3@email.com")))
+                .isInstanceOf(WriteRejectedException.class)
+                .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.WRITE_QUEUE_FULL);
+    }
+
+    @Test
+    @DisplayName("실패 - 종료 중에는 요청을 거절")
+    void submit_throwException_ifStopped() {
+        // given
+        writeBehindQueue.stop();
+
+        // when & then
+        assertThatThrownBy(() -> writeBehindQueue.submit(createAuthorRequestDto("저자", "test@email.com")))
+                .isInstanceOf(WriteRejectedException.class)
+                .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.WRITE_QUEUE_CLOSED);
+    }
+
+    @Test
+    @DisplayName("성공 - 저자와 도서가 섞인 배치를 각각 한 번에 저장하고 행별 결과를 티켓에 반영")
+    @SuppressWarnings("unchecked")
+    void start_writeMixedBatch() {
+        // given
+        BookImportService bookImportService = mock(BookImportService.class);
+        AuthorService authorService = mock(AuthorService.class);
+        WriteBehindQueue queue = new WriteBehindQueue(bookImportService, authorService, true, 10, 500);
+        given(authorService.createAll(anyList()))
+                .willReturn(Map.of(1, GlobalErrorCode.AUTHOR_EMAIL_DUPLICATION.getMessage()));
+        given(bookImportService.importRequests(anyList())).willReturn(BookImportResponseDto.builder()
+                .errors(List.of(RowError.builder()
+                        .row(2)
+                        .reason(GlobalErrorCode.BOOK_ISBN_DUPLICATION.getMessage())
+                        .build()))
+                .build());
+
+        WriteTicketResponseDto author1 = queue.submit(createAuthorRequestDto("저자1", "test1@email.com"));
+        WriteTicketResponseDto book1 = queue.submit(book("1234567890"));
+        WriteTicketResponseDto author2 = queue.submit(createAuthorRequestDto("저자2", "test1@email.com"));
+        WriteTicketResponseDto book2 = queue.submit(book("1234567890"));
+
+        // when
+        queue.start();
+        queue.stop();
+
+        // then
+        ArgumentCaptor<List<AuthorRequestDto>> authors = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<BookRequestDto>> books = ArgumentCaptor.forClass(List.class);
+        then(authorService).should().createAll(authors.capture());
+        then(bookImportService).should().importRequests(books.capture());
+        assertThat(authors.getValue()).extracting(AuthorRequestDto::getName).containsExactly("저자1", "저자2");
+        assertThat(books.getValue()).hasSize(2);
+
+        assertThat(queue.findTicket(author1.getTicketId()).getStatus()).isEqualTo(WriteStatus.SUCCEEDED);
+        assertThat(queue.findTicket(author2.getTicketId()))
+                .extracting(WriteTicketResponseDto::getStatus, WriteTicketResponseDto::getReason)
+                .containsExactly(WriteStatus.FAILED, GlobalErrorCode.AUTHOR_EMAIL_DUPLICATION.getMessage());
+        assertThat(queue.findTicket(book1.getTicketId()).getStatus()).isEqualTo(WriteStatus.SUCCEEDED);
+        assertThat(queue.findTicket(book2.getTicketId()))
+                .extracting(WriteTicketResponseDto::getStatus, WriteTicketResponseDto::getReason)
+                .containsExactly(WriteStatus.FAILED, GlobalErrorCode.BOOK_ISBN_DUPLICATION.getMessage());
+    }
+
+    @Test
+    @DisplayName("성공 - 배치 저장 중 예외가 발생하면 배치의 모든 티켓을 FAILED로 변경")
+    void start_failWholeBatch_ifWriteThrows() {
+        // given
+        BookImportService bookImportService = mock(BookImportService.class);
+        WriteBehindQueue queue = new WriteBehindQueue(bookImportService, mock(AuthorService.class), true, 10, 500);
+        given(bookImportService.importRequests(anyList())).willThrow(new IllegalStateException("write failed"));
+
+        WriteTicketResponseDto book1 = queue.submit(book("1234567890"));
+        WriteTicketResponseDto book2 = queue.submit(book("1234567800"));
+
+        // when
+        queue.start();
+        queue.stop();
+
+        // then
+        for (WriteTicketResponseDto ticket : List.of(book1, book2)) {
+            assertThat(queue.findTicket(ticket.getTicketId()))
+                    .extracting(WriteTicketResponseDto::getStatus, WriteTicketResponseDto::getReason)
+                    .containsExactly(WriteStatus.FAILED, GlobalErrorCode.BOOK_IMPORT_FAILED.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("성공 - 종료 시 대기열에 남은 요청을 모두 저장한 뒤 종료")
+    void stop_drainRemainingWrites() {
+        // given
+        BookImportService bookImportService = mock(BookImportService.class);
+        WriteBehindQueue queue = new WriteBehindQueue(bookImportService, mock(AuthorService.class), true, 10, 1);
+        given(bookImportService.importRequests(anyList())).willReturn(BookImportResponseDto.builder()
+                .errors(List.of())
+                .build());
+
+        List<WriteTicketResponseDto> tickets = List.of(
+                queue.submit(book("1234567890")),
+                queue.submit(book("1234567800")),
+                queue.submit(book("1234567810")));
+
+        // when
+        queue.start();
+        queue.stop();
+
+        // then
+        then(bookImportService).should(times(3)).importRequests(any());
+        assertThat(queue.status().getQueued()).isZero();
+        assertThat(queue.isRunning()).isFalse();
+        assertThat(tickets)
+                .extracting(ticket -> queue.findTicket(ticket.getTicketId()).getStatus())
+                .containsOnly(WriteStatus.SUCCEEDED);
+    }
+
+    private static BookRequestDto book(String isbn) {
+        return createBookRequestDto("제목", null, isbn, LocalDate.of(2024, 1, 1), 1L);
+    }
+}
@@ -0,0 +1,144 @@
+package books.management.domain.statistics.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import books.management.domain.author.dao.AuthorRepository;
+import books.management.domain.author.event.AuthorChangedEvent;
+import books.management.domain.book.dao.BookRepository;
+import books.management.domain.book.dto.projection.BookCatalogView;
+import books.management.domain.book.dto.response.BookResponseDto;
+import books.management.domain.book.event.BookChangedEvent;
+import books.management.domain.statistics.dto.response.CatalogStatisticsResponseDto;
+import books.management.global.error.exception.EntityNotFoundException;
+import books.management.global.error.response.GlobalErrorCode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("[단위 테스트] CatalogStatistics")
+class CatalogStatisticsTest {
+
+    private BookRepository bookRepository;
+    private AuthorRepository authorRepository;
+    private CatalogStatistics catalogStatistics;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository = mock(BookRepository.class);
+        authorRepository = mock(AuthorRepository.class);
+        catalogStatistics = new CatalogStatistics(bookRepository, authorRepository,
+                mock(PlatformTransactionManager.class));
+
+        given(authorRepository.streamAllIds()).willAnswer(invocation -> Stream.of(1L, 2L, 3L));
+        given(bookRepository.streamAllCatalogViews()).willAnswer(invocation -> Stream.of(
+                new BookCatalogView(1L, 1L, LocalDate.of(2020, 1, 1)),
+                new BookCatalogView(2L, 1L, null),
+                new BookCatalogView(3L, 2L, LocalDate.of(2021, 5, 5))));
+        catalogStatistics.initialize();
+    }
+
+    private BookChangedEvent bookEvent(Long id, Long authorId, String publicationDate, boolean created) {
+        BookResponseDto book = BookResponseDto.builder()
+                .id(id)
+                .title("제목")
+                .isbn("1234567890")
+                .publicationDate(publicationDate)
+                .authorId(authorId)
+                .build();
+        return created ? BookChangedEvent.created(book) : BookChangedEvent.updated(book);
+    }
+
+    @Test
+    @DisplayName("시작 시 스캔한 도서, 저자로 통계 생성")
+    void initialize_BuildFromScan() {
+        // when
+        CatalogStatisticsResponseDto statistics = catalogStatistics.getStatistics();
+
+        // then
+        assertThat(statistics.getTotalBooks()).isEqualTo(3);
+        assertThat(statistics.getTotalAuthors()).isEqualTo(3);
+        assertThat(statistics.getBooksWithoutPublicationDate()).isEqualTo(1);
+        assertThat(statistics.getBooksPerYear()).isEqualTo(Map.of(2020, 1L, 2021, 1L));
+        assertThat(catalogStatistics.getAuthorStatistics(1L).getBookCount()).isEqualTo(2);
+        assertThat(catalogStatistics.getAuthorStatistics(3L).getBookCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("도서 생성, 수정, 삭제 이벤트로 이전 값의 카운터를 감소시키고 새 값의 카운터를 증가")
+    void onBookChanged_UpdateCountersIncrementally() {
+        // when
+        catalogStatistics.onBookChanged(bookEvent(4L, 3L, "2021-01-01", true));
+        catalogStatistics.onBookChanged(bookEvent(1L, 2L, "2022-01-01", false));
+        catalogStatistics.onBookChanged(BookChangedEvent.deleted(2L));
+
+        // then
+        CatalogStatisticsResponseDto statistics = catalogStatistics.getStatistics();
+        assertThat(statistics.getTotalBooks()).isEqualTo(3);
+        assertThat(statistics.getBooksWithoutPublicationDate()).isZero();
+        assertThat(statistics.getBooksPerYear()).isEqualTo(Map.of(2021, 2L, 2022, 1L));
+        assertThat(catalogStatistics.getAuthorStatistics(1L).getBookCount()).isZero();
+        assertThat(catalogStatistics.getAuthorStatistics(2L).getBookCount()).isEqualTo(2);
+        assertThat(catalogStatistics.getAuthorStatistics(3L).getBookCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저자 삭제 시 함께 삭제된 도서도 통계에서 제거")
+    void onAuthorChanged_RemoveCascadedBooks() {
+        // when
+        catalogStatistics.onAuthorChanged(AuthorChangedEvent.deleted(1L, List.of(1L, 2L)));
+
+        // then
+        CatalogStatisticsResponseDto statistics = catalogStatistics.getStatistics();
+        assertThat(statistics.getTotalBooks()).isEqualTo(1);
+        assertThat(statistics.getTotalAuthors()).isEqualTo(2);
+        assertThat(statistics.getBooksWithoutPublicationDate()).isZero();
+        assertThat(statistics.getBooksPerYear()).isEqualTo(Map.of(2021, 1L));
+        assertThatThrownBy(() -> catalogStatistics.getAuthorStatistics(1L))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.AUTHOR_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("스캔 중에 삭제된 도서는 스캔에서 읽은 이전 값으로 되살리지 않음")
+    void rebuild_KeepChangesMadeDuringScan() {
+        // given
+        given(bookRepository.streamAllCatalogViews()).willAnswer(invocation -> {
+            catalogStatistics.onBookChanged(BookChangedEvent.deleted(3L));
+            return Stream.of(
+                    new BookCatalogView(1L, 1L, LocalDate.of(2020, 1, 1)),
+                    new BookCatalogView(2L, 1L, null),
+                    new BookCatalogView(3L, 2L, LocalDate.of(2021, 5, 5)));
+        });
+
+        // when
+        catalogStatistics.reconcile();
+
+        // then
+        assertThat(catalogStatistics.getStatistics().getTotalBooks()).isEqualTo(2);
+        assertThat(catalogStatistics.getAuthorStatistics(2L).getBookCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("어긋난 통계는 주기적인 재집계로 데이터베이스 기준으로 교체")
+    void reconcile_ReplaceDriftedCounters() {
+        // given
+        given(bookRepository.streamAllCatalogViews()).willAnswer(invocation -> Stream.of(
+                new BookCatalogView(1L, 1L, LocalDate.of(2020, 1, 1))));
+
+        // when
+        boolean unchanged = catalogStatistics.rebuild();
+
+        // then
+        assertThat(unchanged).isFalse();
+        assertThat(catalogStatistics.getStatistics().getTotalBooks()).isEqualTo(1);
+        assertThat(catalogStatistics.rebuild()).isTrue();
+    }
+}
@@ -1,6 +1,7 @@
 package books.management.fixtures;
 
 import books.management.domain.author.domain.Author;
+import books.management.domain.author.dto.projection.AuthorView;
 import books.management.domain.author.dto.request.AuthorRequestDto;
 import books.management.domain.author.dto.response.AuthorResponseDto;
 
@@ -30,4 +31,8 @@ public class AuthorFixture {
                 .email(email)
                 .build();
     }
+
+    public static AuthorView createAuthorView(Long id, String name, String email) {
+        return new AuthorView(id, name, email, 0L);
+    }
 }
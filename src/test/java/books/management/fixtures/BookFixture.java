@@ -2,7 +2,9 @@ package books.management.fixtures;
 
 import books.management.domain.author.domain.Author;
 import books.management.domain.book.domain.Book;
+import books.management.domain.book.dto.projection.BookView;
 import books.management.domain.book.dto.request.BookRequestDto;
+import books.management.domain.book.dto.response.BookResponseDto;
 import java.time.LocalDate;
 
 public class BookFixture {
@@ -30,4 +32,20 @@ public class BookFixture {
                 .author(author)
                 .build();
     }
+
+    public static BookResponseDto createBookResponseDto(Long id, String title, String description, String isbn,
+                                                        Long authorId) {
+        return BookResponseDto
+                .builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .isbn(isbn)
+                .authorId(authorId)
+                .build();
+    }
+
+    public static BookView createBookView(Long id, String title, String isbn, Long authorId) {
+        return new BookView(id, title, "설명", isbn, LocalDate.now(), authorId, 0L);
+    }
 }
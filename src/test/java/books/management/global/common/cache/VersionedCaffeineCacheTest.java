@@ -0,0 +1,80 @@
+package books.management.global.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache.ValueWrapper;
+
+@DisplayName("[단위 테스트] VersionedCaffeineCache")
+class VersionedCaffeineCacheTest {
+
+    private final VersionedCaffeineCache cache = new VersionedCaffeineCache("books",
+            Caffeine.newBuilder().build(), true, Duration.ofMinutes(10));
+
+    private static Versioned value(long version) {
+        return () -> version;
+    }
+
+    private Long cachedVersion(Object key) {
+        ValueWrapper cached = cache.get(key);
+        return cached == null ? null : ((Versioned) cached.get()).getVersion();
+    }
+
+    @Test
+    @DisplayName("무효화 이전에 조회한 낮은 버전의 값은 다시 적재하지 않음")
+    void put_skip_ifOlderThanEvictedVersion() {
+        // given
+        cache.put(1L, value(1));
+        cache.evict(1L, 2);
+
+        // when
+        cache.put(1L, value(1));
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("무효화된 버전 이상의 값은 적재")
+    void put_store_ifNotOlderThanEvictedVersion() {
+        // given
+        cache.evict(1L, 2);
+
+        // when
+        cache.put(1L, value(2));
+
+        // then
+        assertThat(cachedVersion(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("이미 적재된 값보다 낮은 버전의 값은 덮어쓰지 않음")
+    void put_keepCached_ifCachedVersionIsNewer() {
+        // given
+        cache.put(1L, value(3));
+
+        // when
+        cache.put(1L, value(2));
+
+        // then
+        assertThat(cachedVersion(1L)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("삭제로 무효화된 키는 다시 적재하지 않고, 다른 키에는 영향을 주지 않음")
+    void put_skip_ifDeleted() {
+        // given
+        cache.evict(1L, Long.MAX_VALUE);
+
+        // when
+        cache.put(1L, value(5));
+        cache.put(2L, value(1));
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cachedVersion(2L)).isEqualTo(1L);
+    }
+}
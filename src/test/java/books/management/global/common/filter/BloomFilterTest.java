@@ -0,0 +1,46 @@
+package books.management.global.common.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[단위 테스트] BloomFilter")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 존재할 가능성이 있다고 판단")
+    void mightContain_returnTrue_ifPut() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(String.format("%010d", i));
+        }
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(String.format("%010d", i))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률은 목표 오탐률 근처로 유지")
+    void mightContain_falsePositiveRate_isBounded() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(String.format("%010d", i));
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 10_000; i < 20_000; i++) {
+            if (filter.mightContain(String.format("%010d", i))) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
@@ -0,0 +1,141 @@
+package books.management.global.common.idempotency;
+
+import static books.management.fixtures.AuthorFixture.createAuthorRequestDto;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import books.management.global.error.exception.InvalidValueException;
+import books.management.global.error.exception.NonUniqueValueException;
+import books.management.global.error.exception.WriteRejectedException;
+import books.management.global.error.response.GlobalErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[단위 테스트] IdempotencyStore")
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore idempotencyStore = new IdempotencyStore(new ObjectMapper(), Duration.ofMinutes(1),
+            100);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 처리하지 않고 처음 결과를 반환")
+    void execute_returnStoredResult_ifReplayed() {
+        // given
+        Object request = createAuthorRequestDto("저자", "test@email.com");
+        String first = idempotencyStore.execute("authors", "key", request, () -> "result" + executions.incrementAndGet());
+
+        // when
+        String replayed = idempotencyStore.execute("authors", "key", request,
+                () -> "result" + executions.incrementAndGet());
+
+        // then
+        assertThat(replayed).isEqualTo(first);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외는 보관하여 재시도 시 같은 예외 발생")
+    void execute_rethrowStoredBusinessException_ifReplayed() {
+        // given
+        Object request = createAuthorRequestDto("저자", "test@email.com");
+        assertThatThrownBy(() -> idempotencyStore.execute("authors", "key", request, () -> {
+            executions.incrementAndGet();
+            throw new NonUniqueValueException(GlobalErrorCode.AUTHOR_EMAIL_DUPLICATION);
+        })).isInstanceOf(NonUniqueValueException.class);
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyStore.execute("authors", "key", request, executions::incrementAndGet))
+                .isInstanceOf(NonUniqueValueException.class);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일시적인 예외는 보관하지 않고 재시도를 처리")
+    void execute_retry_ifUnexpectedException() {
+        // given
+        Object request = createAuthorRequestDto("저자", "test@email.com");
+        assertThatThrownBy(() -> idempotencyStore.execute("authors", "key", request, () -> {
+            throw new IllegalStateException("connection reset");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        Integer result = idempotencyStore.execute("authors", "key", request, executions::incrementAndGet);
+
+        // then
+        assertThat(result).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열 가득 참(429) 등 재시도 가능한 비즈니스 예외는 보관하지 않고 재시도를 처리")
+    void execute_retry_ifRetryableBusinessException() {
+        // given
+        Object request = createAuthorRequestDto("저자", "test@email.com");
+        assertThatThrownBy(() -> idempotencyStore.execute("authors", "key", request, () -> {
+            throw new WriteRejectedException(GlobalErrorCode.WRITE_QUEUE_FULL);
+        })).isInstanceOf(WriteRejectedException.class);
+        assertThatThrownBy(() -> idempotencyStore.execute("authors", "key", request, () -> {
+            throw new WriteRejectedException(GlobalErrorCode.WRITE_QUEUE_CLOSED);
+        })).isInstanceOf(WriteRejectedException.class);
+
+        // when
+        Integer result = idempotencyStore.execute("authors", "key", request, executions::incrementAndGet);
+
+        // then
+        assertThat(result).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키의 요청은 한 번만 처리")
+    void execute_coalesceConcurrentRequests() throws Exception {
+        // given
+        Object request = createAuthorRequestDto("저자", "test@email.com");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() ->
+                idempotencyStore.execute("authors", "key", request, () -> {
+                    started.countDown();
+                    await(release);
+                    return executions.incrementAndGet();
+                }));
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() ->
+                idempotencyStore.execute("authors", "key", request, executions::incrementAndGet));
+        release.countDown();
+
+        // then
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패 - 같은 키로 다른 내용의 요청을 보내면 예외 발생")
+    void execute_throwException_ifKeyReusedWithDifferentRequest() {
+        // given
+        idempotencyStore.execute("authors", "key", createAuthorRequestDto("저자1", "test1@email.com"),
+                executions::incrementAndGet);
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyStore.execute("authors", "key",
+                createAuthorRequestDto("저자2", "test2@email.com"), executions::incrementAndGet))
+                .isInstanceOf(InvalidValueException.class)
+                .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package books.management.global.common.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("[단위 테스트] ListSnapshotCache")
+class ListSnapshotCacheTest {
+
+    private final ListSnapshotCache listSnapshotCache = new ListSnapshotCache(new ObjectMapper(), true,
+            DataSize.ofMegabytes(1));
+    private final AtomicInteger builds = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 조회 조건이면 스냅샷을 한 번만 생성")
+    void serve_buildOnce_ifSameQuery() throws IOException {
+        // given
+        serve("0,10", new MockHttpServletRequest());
+
+        // when
+        MockHttpServletResponse response = serve("0,10", new MockHttpServletRequest());
+
+        // then
+        assertThat(builds.get()).isEqualTo(1);
+        assertThat(response.getContentAsString()).isEqualTo("[\"item1\"]");
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("무효화 이후에는 스냅샷을 다시 생성")
+    void serve_rebuild_ifInvalidated() throws IOException {
+        // given
+        serve("0,10", new MockHttpServletRequest());
+
+        // when
+        listSnapshotCache.invalidateAll();
+        MockHttpServletResponse response = serve("0,10", new MockHttpServletRequest());
+
+        // then
+        assertThat(builds.get()).isEqualTo(2);
+        assertThat(response.getContentAsString()).isEqualTo("[\"item2\"]");
+    }
+
+    @Test
+    @DisplayName("gzip을 허용하면 압축된 스냅샷으로 응답")
+    void serve_writeGzip_ifAcceptEncodingGzip() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8");
+
+        // when
+        MockHttpServletResponse response = serve("0,10", request);
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        try (GZIPInputStream gzip = new GZIPInputStream(
+                new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(new String(gzip.readAllBytes())).isEqualTo("[\"item1\"]");
+        }
+    }
+
+    @Test
+    @DisplayName("JSON보다 다른 형식을 우선하면 스냅샷을 사용하지 않음")
+    void serve_skip_ifOtherFormatPreferred() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT, "application/x-jackson-smile, application/json;q=0.5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean served = listSnapshotCache.serve("books", "0,10", request, response,
+                () -> List.of("item" + builds.incrementAndGet()));
+
+        // then
+        assertThat(served).isFalse();
+        assertThat(builds.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("gzip의 q 값이 0이면 압축하지 않은 스냅샷으로 응답")
+    void acceptsGzip_false_ifQualityZero() {
+        assertThat(ListSnapshotCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ListSnapshotCache.acceptsGzip("deflate, gzip")).isTrue();
+        assertThat(ListSnapshotCache.acceptsGzip(null)).isFalse();
+    }
+
+    private MockHttpServletResponse serve(String query, MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean served = listSnapshotCache.serve("books", query, request, response,
+                () -> List.of("item" + builds.incrementAndGet()));
+        assertThat(served).isTrue();
+        return response;
+    }
+}
@@ -0,0 +1,66 @@
+package books.management.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[단위 테스트] ConnectionLimitingDataSource")
+class ConnectionLimitingDataSourceTest {
+
+    private DataSource targetDataSource;
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        targetDataSource = mock(DataSource.class);
+        given(targetDataSource.getConnection()).willAnswer(invocation -> mock(Connection.class));
+        dataSource = new ConnectionLimitingDataSource(targetDataSource, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("허가 수를 넘는 커넥션 요청은 대기 시간 이후 예외 발생")
+    void getConnection_ThrowException_IfPermitsExhausted() throws SQLException {
+        // given
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    @DisplayName("커넥션을 닫으면 허가를 한 번만 반환")
+    void close_releasePermitOnce() throws SQLException {
+        // given
+        Connection connection = dataSource.getConnection();
+
+        // when
+        connection.close();
+        connection.close();
+
+        // then
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커넥션 획득에 실패하면 허가를 반환")
+    void getConnection_releasePermit_IfTargetFails() throws SQLException {
+        // given
+        given(targetDataSource.getConnection()).willThrow(new SQLException("pool closed"));
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+}
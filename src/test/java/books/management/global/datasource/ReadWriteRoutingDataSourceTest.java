@@ -0,0 +1,88 @@
+package books.management.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("[단위 테스트] ReadWriteRoutingDataSource")
+class ReadWriteRoutingDataSourceTest {
+
+    private ReadWriteRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ReadWriteRoutingDataSource(mock(DataSource.class),
+                List.of(mock(DataSource.class), mock(DataSource.class)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWrites.clear();
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary로 라우팅")
+    void route_ToPrimary_IfReadWriteTransaction() {
+        // given
+        beginTransaction(false);
+
+        // when
+        Object key = dataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(key).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 요청은 primary로 라우팅")
+    void route_ToPrimary_IfNoTransaction() {
+        // when
+        Object key = dataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(key).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica를 번갈아 라우팅")
+    void route_ToReplicasInTurn_IfReadOnlyTransaction() {
+        // given
+        beginTransaction(true);
+
+        // when
+        Object first = dataSource.determineCurrentLookupKey();
+        Object second = dataSource.determineCurrentLookupKey();
+        Object third = dataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(List.of(first, second, third)).containsExactly("replica-1", "replica-2", "replica-1");
+    }
+
+    @Test
+    @DisplayName("ReadYourWrites가 지정되면 읽기 전용 트랜잭션도 primary로 라우팅")
+    void route_ToPrimary_IfReadYourWritesRequested() {
+        // given
+        beginTransaction(true);
+        ReadYourWrites.request();
+
+        // when
+        Object key = dataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(key).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+}
@@ -0,0 +1,69 @@
+package books.management.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[단위 테스트] RequestSqlStatisticsCollector")
+class RequestSqlStatisticsCollectorTest {
+
+    private final RequestSqlStatisticsCollector collector = new RequestSqlStatisticsCollector();
+
+    @AfterEach
+    void tearDown() {
+        RequestSqlStatistics.clear();
+    }
+
+    @Test
+    @DisplayName("집계 중인 요청의 SQL 문, 엔티티 로딩, 플러시 횟수를 기록")
+    void collect_countPerRequest() {
+        // given
+        RequestSqlStatistics statistics = RequestSqlStatistics.start();
+
+        // when
+        String sql = collector.inspect("select * from book");
+        collector.inspect("select * from author");
+        collector.inspect("select * from book where id = ?");
+        collector.onLoad(new Object(), 1L, new Object[0], new String[0], null);
+        collector.onLoad(new Object(), 2L, new Object[0], new String[0], null);
+        collector.preFlush(Collections.emptyIterator());
+
+        // then
+        assertThat(sql).isEqualTo("select * from book");
+        assertThat(statistics.getStatements()).isEqualTo(3);
+        assertThat(statistics.getEntityLoads()).isEqualTo(2);
+        assertThat(statistics.getFlushes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청마다 새로운 집계를 시작")
+    void collect_startFromZero_perRequest() {
+        // given
+        RequestSqlStatistics.start();
+        collector.inspect("select * from book");
+        RequestSqlStatistics.clear();
+
+        // when
+        RequestSqlStatistics statistics = RequestSqlStatistics.start();
+        collector.inspect("select * from author");
+
+        // then
+        assertThat(statistics.getStatements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("집계 중이 아닌 스레드에서의 호출은 무시")
+    void collect_ignore_ifNotStarted() {
+        // when
+        String sql = collector.inspect("select * from book");
+        collector.onLoad(new Object(), 1L, new Object[0], new String[0], null);
+        collector.preFlush(Collections.emptyIterator());
+
+        // then
+        assertThat(sql).isEqualTo("select * from book");
+        assertThat(RequestSqlStatistics.start().getStatements()).isZero();
+    }
+}
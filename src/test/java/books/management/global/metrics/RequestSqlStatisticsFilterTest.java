@@ -0,0 +1,118 @@
+package books.management.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.Collections;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("[단위 테스트] RequestSqlStatisticsFilter")
+class RequestSqlStatisticsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestSqlStatisticsFilter filter = new RequestSqlStatisticsFilter(meterRegistry, 2);
+    private final RequestSqlStatisticsCollector collector = new RequestSqlStatisticsCollector();
+
+    @SuppressWarnings("unchecked")
+    static RequestSqlStatistics current() {
+        ThreadLocal<RequestSqlStatistics> current =
+                (ThreadLocal<RequestSqlStatistics>) ReflectionTestUtils.getField(RequestSqlStatistics.class, "CURRENT");
+        return current.get();
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/books/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/books/{id}");
+        return request;
+    }
+
+    private FilterChain executing(int statements) {
+        return (request, response) -> {
+            for (int i = 0; i < statements; i++) {
+                collector.inspect("select * from book");
+            }
+            collector.onLoad(new Object(), 1L, new Object[0], new String[0], null);
+            collector.preFlush(Collections.emptyIterator());
+        };
+    }
+
+    private double total(String name) {
+        return meterRegistry.get(name)
+                .tags("method", "GET", "uri", "/books/{id}")
+                .summary()
+                .totalAmount();
+    }
+
+    @Test
+    @DisplayName("요청에서 실행된 SQL 문, 엔티티 로딩, 플러시 횟수를 URI 패턴별 지표로 기록")
+    void doFilter_recordPerRequest() throws ServletException, IOException {
+        // when
+        filter.doFilter(request(), new MockHttpServletResponse(), executing(2));
+
+        // then
+        assertThat(total("http.server.requests.sql.statements")).isEqualTo(2);
+        assertThat(total("http.server.requests.sql.entity.loads")).isEqualTo(1);
+        assertThat(total("http.server.requests.sql.flushes")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청이 끝나면 집계를 제거하여, 이후 같은 스레드의 SQL은 집계하지 않음")
+    void doFilter_clearThreadLocal_afterRequest() throws ServletException, IOException {
+        // when
+        filter.doFilter(request(), new MockHttpServletResponse(), executing(1));
+        collector.inspect("select * from book");
+
+        // then
+        assertThat(current()).isNull();
+        assertThat(total("http.server.requests.sql.statements")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 처리 중 예외가 발생해도 집계를 제거하고 지표를 기록")
+    void doFilter_clearThreadLocal_ifChainFails() {
+        // given
+        FilterChain failing = (request, response) -> {
+            collector.inspect("select * from book");
+            throw new ServletException("failed");
+        };
+
+        // when & then
+        assertThatThrownBy(() -> filter.doFilter(request(), new MockHttpServletResponse(), failing))
+                .isInstanceOf(ServletException.class);
+        assertThat(current()).isNull();
+        assertThat(total("http.server.requests.sql.statements")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("SQL 문이 기준을 넘으면 경고 로그를 기록")
+    void doFilter_warn_ifOverThreshold(CapturedOutput output) throws ServletException, IOException {
+        // when
+        filter.doFilter(request(), new MockHttpServletResponse(), executing(3));
+
+        // then
+        assertThat(output).contains("GET /books/1 executed 3 SQL statements (threshold 2)");
+    }
+
+    @Test
+    @DisplayName("SQL 문이 기준 이하라면 경고 로그를 기록하지 않음")
+    void doFilter_notWarn_ifWithinThreshold(CapturedOutput output) throws ServletException, IOException {
+        // when
+        filter.doFilter(request(), new MockHttpServletResponse(), executing(2));
+
+        // then
+        assertThat(output).doesNotContain("SQL statements (threshold");
+    }
+}
@@ -0,0 +1,94 @@
+package books.management.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import books.management.domain.book.application.BookService;
+import books.management.global.error.exception.EntityNotFoundException;
+import books.management.global.error.exception.WriteRejectedException;
+import books.management.global.error.response.GlobalErrorCode;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[단위 테스트] ServiceMetricsAspect")
+class ServiceMetricsAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ServiceMetricsAspect aspect = new ServiceMetricsAspect(meterRegistry);
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    @BeforeEach
+    void setUp() {
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getDeclaringType()).willReturn(BookService.class);
+        given(signature.getName()).willReturn("findBookById");
+    }
+
+    private Timer timer(String outcome, String exception) {
+        return meterRegistry.get("service.method")
+                .tags("class", "BookService", "method", "findBookById", "outcome", outcome, "exception", exception)
+                .timer();
+    }
+
+    @Test
+    @DisplayName("정상 종료하면 SUCCESS로 기록하고 결과를 그대로 반환")
+    void time_recordSuccess() throws Throwable {
+        // given
+        given(joinPoint.proceed()).willReturn("result");
+
+        // when
+        Object result = aspect.time(joinPoint);
+
+        // then
+        assertThat(result).isEqualTo("result");
+        assertThat(timer("SUCCESS", "none").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("4xx 비즈니스 예외는 CLIENT_ERROR와 예외 이름으로 기록하고 다시 던짐")
+    void time_recordClientError() throws Throwable {
+        // given
+        given(joinPoint.proceed()).willThrow(new EntityNotFoundException(GlobalErrorCode.BOOK_NOT_FOUND));
+
+        // when & then
+        assertThatThrownBy(() -> aspect.time(joinPoint)).isInstanceOf(EntityNotFoundException.class);
+        assertThat(timer("CLIENT_ERROR", "EntityNotFoundException").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("5xx 비즈니스 예외는 SERVER_ERROR로 기록")
+    void time_recordServerError_ifBusinessExceptionIs5xx() throws Throwable {
+        // given
+        given(joinPoint.proceed()).willThrow(new WriteRejectedException(GlobalErrorCode.WRITE_QUEUE_CLOSED));
+
+        // when & then
+        assertThatThrownBy(() -> aspect.time(joinPoint)).isInstanceOf(WriteRejectedException.class);
+        assertThat(timer("SERVER_ERROR", "WriteRejectedException").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외가 아닌 예외는 SERVER_ERROR로 기록")
+    void time_recordServerError_ifUnexpectedException() throws Throwable {
+        // given
+        given(joinPoint.proceed()).willThrow(new IllegalStateException("failed"));
+
+        // when & then
+        assertThatThrownBy(() -> aspect.time(joinPoint)).isInstanceOf(IllegalStateException.class);
+        assertThat(timer("SERVER_ERROR", "IllegalStateException").count()).isEqualTo(1);
+    }
+}